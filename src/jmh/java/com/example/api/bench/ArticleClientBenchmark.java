@@ -0,0 +1,142 @@
+package com.example.api.bench;
+
+import com.example.api.ApiApplication;
+import com.example.api.client.*;
+import com.example.api.dto.ArticleDto;
+import com.example.api.stub.StubArticleServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 네 가지 ArticleClient 구현체의 CRUD 비용을 비교한다.
+// 애플리케이션과 같은 Bean 설정(Connection Pool 등)을 그대로 사용하고,
+// Upstream은 같은 JVM 안의 StubArticleServer로 대신한다.
+// Stub의 게시글 수가 변하지 않도록 delete는 매번 새로 넣은 게시글을 지우고,
+// create로 만든 게시글은 매번 지운다. (준비 / 정리는 측정에 포함되지 않는다.)
+//
+// ./gradlew jmh
+// - Throughput(ops/ms), SampleTime(p50, p90, p99, ...), gc profiler(gc.alloc.rate.norm)
+// - 스레드 수는 아래의 Threads1, Threads16, Threads256 클래스로 나눈다.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public abstract class ArticleClientBenchmark {
+  @Param({"template", "web", "rest", "interface"})
+  public String client;
+
+  private ConfigurableApplicationContext context;
+  private ArticleClient articleClient;
+  private ArticleDto article;
+
+  @Setup(Level.Trial)
+  public void setUp(Upstream upstream) {
+    context = new SpringApplicationBuilder(ApiApplication.class)
+      .web(WebApplicationType.NONE)
+      .properties(
+        "article.upstream.base-url=" + upstream.server.baseUrl(),
+        "article.upstream.pool.max-connections=512",
+        "article.upstream.pool.max-connections-per-route=512",
+        "logging.level.root=warn")
+      .run();
+    articleClient = switch (client) {
+      case "template" -> context.getBean(ArticleTemplateClient.class);
+      case "web" -> context.getBean(ArticleWebClient.class);
+      case "rest" -> context.getBean(ArticleRestClient.class);
+      case "interface" -> context.getBean(ArticleService.class);
+      default -> throw new IllegalArgumentException(client);
+    };
+    article = new ArticleDto(null, "title", "content", "writer");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public ArticleDto create(Created created) {
+    ArticleDto dto = articleClient.create(article);
+    created.id = dto.getId();
+    return dto;
+  }
+
+  @Benchmark
+  public ArticleDto readOne() {
+    return articleClient.readOne(1L);
+  }
+
+  @Benchmark
+  public List<ArticleDto> readAll() {
+    return articleClient.readAll();
+  }
+
+  @Benchmark
+  public ArticleDto update() {
+    return articleClient.update(1L, article);
+  }
+
+  @Benchmark
+  public void delete(Seeded seeded) {
+    articleClient.delete(seeded.id);
+  }
+
+  // 모든 스레드가 함께 쓰는 Upstream
+  @State(Scope.Benchmark)
+  public static class Upstream {
+    // readAll 응답에 들어가는 게시글 수
+    @Param({"20"})
+    public int articleCount;
+
+    StubArticleServer server;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+      server = StubArticleServer.start(new StubArticleServer.Options()
+        .articleCount(articleCount)
+        .payloadSize(100));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+      server.close();
+    }
+  }
+
+  // delete할 게시글을 호출마다 Stub에 직접 넣어둔다.
+  @State(Scope.Thread)
+  public static class Seeded {
+    long id;
+
+    @Setup(Level.Invocation)
+    public void seed(Upstream upstream) {
+      id = upstream.server.seed();
+    }
+  }
+
+  // create로 만든 게시글을 호출마다 Stub에서 직접 지운다.
+  @State(Scope.Thread)
+  public static class Created {
+    Long id;
+
+    @TearDown(Level.Invocation)
+    public void remove(Upstream upstream) {
+      if (id != null)
+        upstream.server.remove(id);
+      id = null;
+    }
+  }
+
+  @Threads(1)
+  public static class Threads1 extends ArticleClientBenchmark {}
+
+  @Threads(16)
+  public static class Threads16 extends ArticleClientBenchmark {}
+
+  @Threads(256)
+  public static class Threads256 extends ArticleClientBenchmark {}
+}
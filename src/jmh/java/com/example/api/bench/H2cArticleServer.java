@@ -0,0 +1,48 @@
+package com.example.api.bench;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// TransportBenchmark용 Upstream
+// StubArticleServer(JDK HttpServer)는 HTTP/1.1만 지원하므로 Reactor Netty로 만든다.
+// 같은 Port에서 HTTP/1.1, h2c Upgrade, h2c Prior Knowledge를 모두 받는다.
+// GET /articles/{id}만 처리하고, 열린 TCP Connection 수를 센다.
+class H2cArticleServer implements AutoCloseable {
+  private final AtomicInteger connections = new AtomicInteger();
+  private final DisposableServer server;
+
+  H2cArticleServer(int payloadSize) {
+    String content = "x".repeat(payloadSize);
+    server = HttpServer.create()
+      .host("localhost")
+      .port(0)
+      .protocol(HttpProtocol.HTTP11, HttpProtocol.H2C)
+      // HTTP/2 Stream이 아니라 TCP Connection이 열릴 때마다 호출된다.
+      .doOnChannelInit((observer, channel, remoteAddress) -> connections.incrementAndGet())
+      .route(routes -> routes.get("/articles/{id}", (request, response) -> response
+        .header(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON)
+        .sendString(Mono.just(String.format(
+          "{\"id\":%s,\"title\":\"title\",\"content\":\"%s\",\"writer\":\"writer\"}",
+          request.param("id"), content)))))
+      .bindNow();
+  }
+
+  String baseUrl() {
+    return "http://localhost:" + server.port();
+  }
+
+  int connections() {
+    return connections.get();
+  }
+
+  @Override
+  public void close() {
+    server.disposeNow();
+  }
+}
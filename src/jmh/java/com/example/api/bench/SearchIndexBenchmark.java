@@ -0,0 +1,119 @@
+package com.example.api.bench;
+
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticleSearchHitDto;
+import com.example.api.search.ArticleSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// ArticleSearchIndex의 색인 시간과 검색 지연 시간
+// 게시글은 Zipf 분포(자주 쓰이는 단어가 훨씬 많이 나오는)로 고른 단어로 만든다.
+// - Build: 전체 게시글로 rebuild 한 번 (SingleShotTime)
+// - Query: 종류 별 검색 한 번 (SampleTime, p50 / p99)
+//
+// ./gradlew jmh -Pjmh.includes=SearchIndexBenchmark
+public class SearchIndexBenchmark {
+  private static final int VOCABULARY = 50_000;
+  private static final String[] SYLLABLES = {
+    "ka", "ri", "mo", "su", "te", "na", "lo", "pi", "ze", "du",
+    "ha", "ne", "so", "ba", "ki", "ru", "me", "to", "ya", "gu"
+  };
+
+  @State(Scope.Benchmark)
+  public static class Corpus {
+    @Param({"100000", "1000000"})
+    public int articleCount;
+
+    List<ArticleDto> articles;
+
+    @Setup(Level.Trial)
+    public void generate() {
+      SplittableRandom random = new SplittableRandom(42);
+      articles = new ArrayList<>(articleCount);
+      for (long id = 1; id <= articleCount; id++) {
+        articles.add(new ArticleDto(id,
+          words(random, 6),
+          words(random, 40),
+          "writer" + random.nextInt(1_000)));
+      }
+    }
+  }
+
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 1)
+  @Measurement(iterations = 3)
+  @Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+  public static class Build {
+    @Benchmark
+    public ArticleSearchIndex rebuild(Corpus corpus) {
+      ArticleSearchIndex index = new ArticleSearchIndex();
+      index.rebuild(corpus.articles);
+      return index;
+    }
+  }
+
+  @State(Scope.Benchmark)
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  @Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+  public static class Query {
+    // common: 자주 나오는 단어, rare: 드문 단어, prefix: 두 글자 접두사,
+    // and: 두 단어 모두, writer: 단어 + writer 필터
+    @Param({"common", "rare", "prefix", "and", "writer"})
+    public String kind;
+
+    private ArticleSearchIndex index;
+    private String query;
+    private String writer;
+
+    @Setup(Level.Trial)
+    public void setUp(Corpus corpus) {
+      index = new ArticleSearchIndex();
+      index.rebuild(corpus.articles);
+      query = switch (kind) {
+        case "common", "writer" -> word(3);
+        case "rare" -> word(VOCABULARY - 10);
+        case "prefix" -> word(7).substring(0, 2);
+        case "and" -> word(3) + " " + word(200);
+        default -> throw new IllegalArgumentException(kind);
+      };
+      writer = kind.equals("writer") ? "writer7" : null;
+    }
+
+    @Benchmark
+    public List<ArticleSearchHitDto> search() {
+      return index.search(query, writer, 10);
+    }
+
+    @Threads(8)
+    public static class Threads8 extends Query {}
+  }
+
+  private static String words(SplittableRandom random, int count) {
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      if (i > 0)
+        text.append(' ');
+      // 순위가 r인 단어가 나올 확률이 대략 1/r에 비례한다.
+      int rank = (int) Math.exp(random.nextDouble() * Math.log(VOCABULARY)) - 1;
+      text.append(word(rank));
+    }
+    return text.toString();
+  }
+
+  // 0부터 VOCABULARY - 1까지의 번호를 음절로 바꾼 단어
+  private static String word(int rank) {
+    StringBuilder word = new StringBuilder();
+    int n = rank;
+    do {
+      word.append(SYLLABLES[n % SYLLABLES.length]);
+      n /= SYLLABLES.length;
+    } while (n > 0);
+    return word.toString();
+  }
+}
@@ -0,0 +1,76 @@
+package com.example.api.bench;
+
+import com.example.api.ApiApplication;
+import com.example.api.client.ArticleClient;
+import com.example.api.client.ArticleRestClient;
+import com.example.api.client.ArticleWebClient;
+import com.example.api.dto.ArticleDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// article.upstream.transport 별 readOne 비용을 비교한다.
+// - http1: Connection Pool (요청 하나가 Connection 하나를 점유)
+// - h2c, h2c-prior-knowledge: 적은 수의 Connection에 요청을 다중화
+// Trial이 끝나면 Upstream에 열린 TCP Connection 수를 출력한다.
+//
+// ./gradlew jmh -Pjmh.includes=TransportBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public abstract class TransportBenchmark {
+  @Param({"http1", "h2c", "h2c-prior-knowledge"})
+  public String transport;
+
+  // web: WebClient (Reactor Netty), rest: RestClient (http1: Apache HttpClient 5, h2c: JDK HttpClient)
+  @Param({"web", "rest"})
+  public String client;
+
+  @Param({"100"})
+  public int payloadSize;
+
+  private H2cArticleServer server;
+  private ConfigurableApplicationContext context;
+  private ArticleClient articleClient;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    server = new H2cArticleServer(payloadSize);
+    context = new SpringApplicationBuilder(ApiApplication.class)
+      .web(WebApplicationType.NONE)
+      .properties(
+        "article.upstream.base-url=" + server.baseUrl(),
+        "article.upstream.transport=" + transport,
+        "article.upstream.pool.max-connections=512",
+        "article.upstream.pool.max-connections-per-route=512",
+        "logging.level.root=warn")
+      .run();
+    articleClient = switch (client) {
+      case "web" -> context.getBean(ArticleWebClient.class);
+      case "rest" -> context.getBean(ArticleRestClient.class);
+      default -> throw new IllegalArgumentException(client);
+    };
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    System.out.printf("%n[%s/%s] upstream connections: %d%n", transport, client, server.connections());
+    context.close();
+    server.close();
+  }
+
+  @Benchmark
+  public ArticleDto readOne() {
+    return articleClient.readOne(ThreadLocalRandom.current().nextLong(1, 1000));
+  }
+
+  @Threads(16)
+  public static class Threads16 extends TransportBenchmark {}
+
+  @Threads(256)
+  public static class Threads256 extends TransportBenchmark {}
+}
@@ -2,8 +2,13 @@ package com.example.api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+// ArticleReplicaSync 등의 주기 작업
+@EnableScheduling
 public class ApiApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,26 @@
+package com.example.api;
+
+import com.example.api.config.ArticleBatchProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Collection;
+import java.util.Objects;
+
+// readMany, createAll의 항목 수 제한 (article.batch.max-size)
+// ArticleController, ReactiveArticleController가 요청을 받을 때 같은 기준으로 확인한다.
+// (Client 계층은 제한하지 않는다. 내부 호출은 max-size 이하로 나눠서 보낸다.)
+final class ArticleBatchLimit {
+  private ArticleBatchLimit() {}
+
+  // 중복된 id와 null은 조회하지 않으므로 세지 않는다.
+  static void checkIds(Collection<Long> ids, ArticleBatchProperties properties) {
+    check(ids.stream().filter(Objects::nonNull).distinct().count(), properties);
+  }
+
+  static void check(long size, ArticleBatchProperties properties) {
+    if (size > properties.getMaxSize())
+      throw new ResponseStatusException(
+        HttpStatus.BAD_REQUEST, "batch size must be <= " + properties.getMaxSize());
+  }
+}
@@ -1,14 +1,26 @@
 package com.example.api;
 
-import com.example.api.client.ArticleRestClient;
-import com.example.api.client.ArticleService;
-import com.example.api.client.ArticleTemplateClient;
-import com.example.api.client.ArticleWebClient;
+import com.example.api.client.ArticleClient;
+import com.example.api.client.PrefetchingPageIterator;
+import com.example.api.client.ReactiveArticleClient;
+import com.example.api.config.ArticleBatchProperties;
+import com.example.api.config.ArticlePagingProperties;
+import com.example.api.dto.ArticleBatchResultDto;
 import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -16,49 +28,98 @@ import java.util.List;
 @RestController
 @RequestMapping("/articles")
 @RequiredArgsConstructor
+// article.controller.mode=reactive 이면 ReactiveArticleController가,
+// passthrough 이면 PassthroughArticleController가 대신 등록된다.
+@ConditionalOnProperty(name = "article.controller.mode", havingValue = "blocking", matchIfMissing = true)
 public class ArticleController {
-  private final ArticleTemplateClient templateClient;
-  private final ArticleWebClient articleWebClient;
-  private final ArticleRestClient restClient;
-  private final ArticleService service;
+  // article.client.type으로 고른 구현체
+  // (RestTemplate, WebClient, RestClient, HTTP Interface)
+  // 캐시 등의 Decorator 설정은 ArticleClientConfig 참고
+  private final ArticleClient service;
+  // 전체 목록을 Streaming으로 전달할 때 사용한다.
+  // (WebClient는 NDJSON 요청이 처음 들어올 때 만들어진다.)
+  private final ObjectProvider<ReactiveArticleClient> reactiveClient;
+  private final ArticleBatchProperties batchProperties;
+  private final ArticlePagingProperties pagingProperties;
+  private final ObjectMapper objectMapper;
 
   @PostMapping
   public ArticleDto create(
     @RequestBody
     ArticleDto dto
   ) {
-    // RestTemplate
-//    return templateClient.create(dto);
-
-    // WebClient
-//    return articleWebClient.create(dto);
-
-    // RestClient
-//    return restClient.create(dto);
-
-    // HTTP Interface
     return service.create(dto);
   }
 
+  // 여러 게시글을 한 번에 생성한다.
+  @PostMapping("/batch")
+  public List<ArticleBatchResultDto> createAll(
+    @RequestBody
+    List<ArticleDto> dtos
+  ) {
+    ArticleBatchLimit.check(dtos.size(), batchProperties);
+    return service.createAll(dtos);
+  }
+
   @GetMapping("/{id}")
   public ArticleDto readOne(
     @PathVariable("id") Long id
   ) {
-    // RestTemplate
-//    return templateClient.readOne(id);
-
-    // WebClient
-    return articleWebClient.readOne(id);
+    return service.readOne(id);
   }
 
   @GetMapping
   public List<ArticleDto> readAll() {
+    return service.readAll();
+  }
 
-    // RestTemplate
-//    return templateClient.readAll();
+  // Accept: application/x-ndjson
+  // 전체 목록을 List로 모으지 않고, Upstream에서 읽는 대로 한 줄에 하나씩 내보낸다.
+  @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public Flux<ArticleDto> streamAll() {
+    return reactiveClient.getObject().readAll();
+  }
 
-    // RestClient
-    return restClient.readAll();
+  // GET /articles/paged?page=0&limit=100
+  @GetMapping("/paged")
+  public ArticlePageDto readPage(
+    @RequestParam(value = "page", defaultValue = "0") int page,
+    @RequestParam(value = "limit", required = false) Integer limit
+  ) {
+    int size = limit == null ? pagingProperties.getPageSize() : limit;
+    checkPage(page, size);
+    return service.readPage(page, size);
+  }
+
+  // 전체 목록을 페이지 단위로 읽어서 NDJSON으로 내보낸다.
+  // 한 페이지를 쓰는 동안 다음 페이지를 미리 받아두므로 Upstream 지연이 겹쳐진다.
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> export() {
+    ArticleClient.Pages pages = service.readAllPaged(
+      pagingProperties.getPageSize(), pagingProperties.getPrefetch());
+    ObjectWriter writer = objectMapper.writerFor(ArticleDto.class);
+    // Client가 연결을 끊어서 쓰기가 실패하면 close()로 미리 요청한 페이지를 취소한다.
+    StreamingResponseBody body = outputStream -> {
+      try (PrefetchingPageIterator articles = pages.iterator()) {
+        while (articles.hasNext()) {
+          outputStream.write(writer.writeValueAsBytes(articles.next()));
+          outputStream.write('\n');
+        }
+      }
+    };
+    return ResponseEntity.ok()
+      .contentType(MediaType.APPLICATION_NDJSON)
+      .body(body);
+  }
+
+  // GET /articles?ids=1,2,3
+  // 항목 별로 성공 / 실패가 담긴 결과를 요청 순서대로 돌려준다.
+  @GetMapping(params = "ids")
+  public List<ArticleBatchResultDto> readMany(
+    @RequestParam("ids") List<Long> ids
+  ) {
+    ArticleBatchLimit.checkIds(ids, batchProperties);
+    return service.readMany(ids);
   }
 
   @PutMapping("/{id}")
@@ -66,7 +127,7 @@ public class ArticleController {
     @PathVariable("id") Long id,
     @RequestBody ArticleDto dto
   ) {
-    return templateClient.update(id, dto);
+    return service.update(id, dto);
   }
 
   @DeleteMapping("/{id}")
@@ -74,6 +135,13 @@ public class ArticleController {
   public void delete(
     @PathVariable("id") Long id
   ) {
-    templateClient.delete(id);
+    service.delete(id);
+  }
+
+  // 잘못된 페이지 값은 복제본(PageRequest.of)이나 Upstream에서 500이 되기 전에 400으로 응답한다.
+  private static void checkPage(int page, int limit) {
+    if (page < 0 || limit < 1)
+      throw new ResponseStatusException(
+        HttpStatus.BAD_REQUEST, "page must be >= 0 and limit must be >= 1");
   }
 }
@@ -0,0 +1,176 @@
+package com.example.api;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.catalina.connector.CoyoteOutputStream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.List;
+import java.util.stream.Stream;
+
+// article.controller.mode=passthrough 일 때 ArticleController 대신 등록된다.
+// Upstream 응답을 ArticleDto로 바꾸지 않고, WebClient가 받은 DataBuffer의 ByteBuffer를 응답에 쓴다. (Tomcat이면 중간 byte[] 없음)
+// - JSON 파싱 / 직렬화가 없고, 목록 전체를 메모리에 모으지 않는다.
+// - 상태 코드와 일부 헤더(FORWARDED_HEADERS)도 그대로 전달한다. (4xx, 5xx 포함)
+// ArticleClient를 거치지 않으므로 캐시, Circuit Breaker 같은 Decorator는 적용되지 않는다.
+@Slf4j
+@RestController
+@RequestMapping("/articles")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "article.controller.mode", havingValue = "passthrough")
+public class PassthroughArticleController {
+  private static final List<String> FORWARDED_HEADERS = List.of(
+    HttpHeaders.CONTENT_TYPE,
+    HttpHeaders.CONTENT_LENGTH,
+    HttpHeaders.CONTENT_ENCODING,
+    HttpHeaders.ETAG,
+    HttpHeaders.LAST_MODIFIED,
+    HttpHeaders.CACHE_CONTROL
+  );
+  // Upstream에서 미리 받아둘 DataBuffer 수
+  private static final int PREFETCH = 16;
+
+  private final WebClient webClient;
+
+  // 요청 Body는 작으므로 byte[]로 받아서 매핑 없이 그대로 보낸다.
+  @PostMapping
+  public Mono<ResponseEntity<StreamingResponseBody>> create(
+    @RequestBody byte[] body,
+    // 없으면 ArticleController처럼 JSON으로 본다.
+    @RequestHeader(value = HttpHeaders.CONTENT_TYPE, defaultValue = MediaType.APPLICATION_JSON_VALUE)
+    String contentType
+  ) {
+    return forward(webClient.post()
+      .uri("/articles")
+      .header(HttpHeaders.CONTENT_TYPE, contentType)
+      .bodyValue(body));
+  }
+
+  @GetMapping("/{id}")
+  public Mono<ResponseEntity<StreamingResponseBody>> readOne(
+    @PathVariable("id") Long id
+  ) {
+    return forward(webClient.get()
+      .uri("/articles/{id}", id));
+  }
+
+  @GetMapping
+  public Mono<ResponseEntity<StreamingResponseBody>> readAll() {
+    return forward(webClient.get()
+      .uri("/articles"));
+  }
+
+  @GetMapping("/paged")
+  public Mono<ResponseEntity<StreamingResponseBody>> readPage(
+    @RequestParam(value = "page", defaultValue = "0") int page,
+    @RequestParam(value = "limit", defaultValue = "100") int limit
+  ) {
+    checkPage(page, limit);
+    return forward(webClient.get()
+      .uri("/articles/paged?page={page}&limit={limit}", page, limit));
+  }
+
+  @PutMapping("/{id}")
+  public Mono<ResponseEntity<StreamingResponseBody>> update(
+    @PathVariable("id") Long id,
+    @RequestBody byte[] body,
+    // 없으면 ArticleController처럼 JSON으로 본다.
+    @RequestHeader(value = HttpHeaders.CONTENT_TYPE, defaultValue = MediaType.APPLICATION_JSON_VALUE)
+    String contentType
+  ) {
+    return forward(webClient.put()
+      .uri("/articles/{id}", id)
+      .header(HttpHeaders.CONTENT_TYPE, contentType)
+      .bodyValue(body));
+  }
+
+  @DeleteMapping("/{id}")
+  public Mono<ResponseEntity<StreamingResponseBody>> delete(
+    @PathVariable("id") Long id
+  ) {
+    return forward(webClient.delete()
+      .uri("/articles/{id}", id));
+  }
+
+  // 응답 헤더가 도착하면 상태 코드와 헤더를 정하고,
+  // Body는 StreamingResponseBody가 도착하는 대로 씀으로써 요청 스레드를 붙잡지 않는다.
+  private Mono<ResponseEntity<StreamingResponseBody>> forward(WebClient.RequestHeadersSpec<?> request) {
+    return request
+      .retrieve()
+      // WebClientConfig의 defaultStatusHandler가 4xx, 5xx를 예외로 바꾸지 않도록 한다.
+      .onStatus(HttpStatusCode::isError, response -> Mono.empty())
+      .toEntityFlux(DataBuffer.class)
+      .map(upstream -> ResponseEntity.status(upstream.getStatusCode())
+        .headers(headers -> copyHeaders(upstream.getHeaders(), headers))
+        .<StreamingResponseBody>body(outputStream -> write(upstream.getBody(), outputStream)))
+      .onErrorMap(WebClientRequestException.class, e ->
+        new ResponseStatusException(HttpStatus.BAD_GATEWAY, e.getMessage(), e));
+  }
+
+  // 잘못된 페이지 값은 Upstream에서 500이 되기 전에 400으로 응답한다.
+  private static void checkPage(int page, int limit) {
+    if (page < 0 || limit < 1)
+      throw new ResponseStatusException(
+        HttpStatus.BAD_REQUEST, "page must be >= 0 and limit must be >= 1");
+  }
+
+  private static void copyHeaders(HttpHeaders from, HttpHeaders to) {
+    for (String name : FORWARDED_HEADERS) {
+      List<String> values = from.get(name);
+      if (values != null)
+        to.put(name, values);
+    }
+  }
+
+  // DataBuffer가 가진 ByteBuffer를 응답에 쓰고 바로 반납한다.
+  // Tomcat의 CoyoteOutputStream은 ByteBuffer를 받아 출력 Buffer로 바로 옮기므로 중간 byte[]가 없다.
+  // 다른 OutputStream(다른 Servlet Container, Filter가 감싼 응답)이면
+  // Channels.newChannel이 내부 byte[]로 한 번 복사해서 쓴다.
+  private static void write(Flux<DataBuffer> body, OutputStream outputStream) throws IOException {
+    if (body == null)
+      return;
+    ByteBufferWriter writer = outputStream instanceof CoyoteOutputStream coyote
+      ? coyote::write
+      : Channels.newChannel(outputStream)::write;
+    // Stream을 닫으면 (예: Client가 연결을 끊어 쓰기에 실패하면) Upstream 구독도 취소된다.
+    try (Stream<DataBuffer> buffers = body
+      .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+      .toStream(PREFETCH)) {
+      for (DataBuffer buffer : (Iterable<DataBuffer>) buffers::iterator) {
+        try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+          while (iterator.hasNext()) {
+            ByteBuffer byteBuffer = iterator.next();
+            while (byteBuffer.hasRemaining())
+              writer.write(byteBuffer);
+          }
+        } finally {
+          DataBufferUtils.release(buffer);
+        }
+      }
+    }
+    outputStream.flush();
+  }
+
+  @FunctionalInterface
+  private interface ByteBufferWriter {
+    void write(ByteBuffer buffer) throws IOException;
+  }
+}
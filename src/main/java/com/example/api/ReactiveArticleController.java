@@ -0,0 +1,117 @@
+package com.example.api;
+
+import com.example.api.client.ReactiveArticleClient;
+import com.example.api.config.ArticleBatchProperties;
+import com.example.api.config.ArticlePagingProperties;
+import com.example.api.dto.ArticleBatchResultDto;
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// article.controller.mode=reactive 일 때 ArticleController 대신 등록된다.
+// Mono / Flux를 반환하면 요청 스레드는 바로 반납되고,
+// Upstream 응답이 도착했을 때 응답이 작성된다.
+@Slf4j
+@RestController
+@RequestMapping("/articles")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "article.controller.mode", havingValue = "reactive")
+public class ReactiveArticleController {
+  private final ReactiveArticleClient client;
+  private final ArticleBatchProperties batchProperties;
+  private final ArticlePagingProperties pagingProperties;
+
+  @PostMapping
+  public Mono<ArticleDto> create(
+    @RequestBody
+    ArticleDto dto
+  ) {
+    return client.create(dto);
+  }
+
+  @PostMapping("/batch")
+  public Flux<ArticleBatchResultDto> createAll(
+    @RequestBody
+    List<ArticleDto> dtos
+  ) {
+    ArticleBatchLimit.check(dtos.size(), batchProperties);
+    return client.createAll(dtos, batchProperties.getConcurrency());
+  }
+
+  @GetMapping("/{id}")
+  public Mono<ArticleDto> readOne(
+    @PathVariable("id") Long id
+  ) {
+    return client.readOne(id);
+  }
+
+  @GetMapping
+  public Flux<ArticleDto> readAll() {
+    return client.readAll();
+  }
+
+  // Accept: application/x-ndjson
+  // Upstream에서 읽는 대로 한 줄에 하나씩 내보낸다.
+  @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public Flux<ArticleDto> streamAll() {
+    return client.readAll();
+  }
+
+  @GetMapping("/paged")
+  public Mono<ArticlePageDto> readPage(
+    @RequestParam(value = "page", defaultValue = "0") int page,
+    @RequestParam(value = "limit", required = false) Integer limit
+  ) {
+    int size = limit == null ? pagingProperties.getPageSize() : limit;
+    checkPage(page, size);
+    return client.readPage(page, size);
+  }
+
+  // 전체 목록을 페이지 단위로 읽어서 NDJSON으로 내보낸다.
+  // 다음 페이지는 최대 article.paging.prefetch 개까지 미리 요청한다.
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public Flux<ArticleDto> export() {
+    return client.readAllPaged(pagingProperties.getPageSize(), pagingProperties.getPrefetch());
+  }
+
+  @GetMapping(params = "ids")
+  public Flux<ArticleBatchResultDto> readMany(
+    @RequestParam("ids") List<Long> ids
+  ) {
+    ArticleBatchLimit.checkIds(ids, batchProperties);
+    return client.readMany(ids, batchProperties.getConcurrency());
+  }
+
+  @PutMapping("/{id}")
+  public Mono<ArticleDto> update(
+    @PathVariable("id") Long id,
+    @RequestBody ArticleDto dto
+  ) {
+    return client.update(id, dto);
+  }
+
+  @DeleteMapping("/{id}")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  public Mono<Void> delete(
+    @PathVariable("id") Long id
+  ) {
+    return client.delete(id);
+  }
+
+  // 잘못된 페이지 값은 복제본(PageRequest.of)이나 Upstream에서 500이 되기 전에 400으로 응답한다.
+  private static void checkPage(int page, int limit) {
+    if (page < 0 || limit < 1)
+      throw new ResponseStatusException(
+        HttpStatus.BAD_REQUEST, "page must be >= 0 and limit must be >= 1");
+  }
+}
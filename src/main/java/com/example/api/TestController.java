@@ -1,13 +1,10 @@
 package com.example.api;
 
 import com.example.api.client.ArticleClient;
-import com.example.api.client.ArticleService;
-import com.example.api.client.ArticleTemplateClient;
 import com.example.api.dto.ArticleDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
 
@@ -22,18 +19,12 @@ public class TestController {
   // 생성자 주입은 구현한 4가지 방법(RestTemplate, WebClient, Http Interface, Restclient) 중에
   // 아무거나 넣어서 동작할 수 있게 할 수 있다.
   // (이렇게 함으로서, 결합성을 줄일 수 있다.)
+  // 어떤 구현체를 넣을지는 application.properties의 article.client.type으로 고른다.
+  // (@Primary로 등록된 ArticleClient, ArticleClientConfig 참고)
   public TestController(
-    // RestTemplate
-    ArticleTemplateClient articleTemplateClient
-
-    // HTTP Interface
-//    ArticleService articleService
+    ArticleClient articleClient
   ) {
-    // RestTemplate
-    this.service = articleTemplateClient;
-
-    // HTTP Interface
-//    this.service = articleService;
+    this.service = articleClient;
   }
 
   @PostMapping
@@ -0,0 +1,41 @@
+package com.example.api.client;
+
+import com.example.api.dto.ArticleBatchResultDto;
+import com.example.api.dto.ArticleDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.function.Supplier;
+
+// 일괄 처리에서 항목 하나의 실패가 전체를 실패시키지 않도록
+// 예외를 ArticleBatchResultDto로 바꿔준다.
+final class ArticleBatches {
+  private ArticleBatches() {}
+
+  static ArticleBatchResultDto attempt(Long id, Supplier<ArticleDto> call) {
+    try {
+      ArticleDto article = call.get();
+      return ArticleBatchResultDto.success(
+        id != null ? id : article == null ? null : article.getId(), article);
+    } catch (RuntimeException e) {
+      return failure(id, e);
+    }
+  }
+
+  static ArticleBatchResultDto failure(Long id, Throwable e) {
+    return ArticleBatchResultDto.failure(id, status(e), e.getMessage());
+  }
+
+  // Client 마다 4xx, 5xx 응답을 다른 예외로 알려준다.
+  static int status(Throwable e) {
+    if (e instanceof ResponseStatusException exception)
+      return exception.getStatusCode().value();
+    if (e instanceof RestClientResponseException exception)
+      return exception.getStatusCode().value();
+    if (e instanceof WebClientResponseException exception)
+      return exception.getStatusCode().value();
+    return HttpStatus.BAD_GATEWAY.value();
+  }
+}
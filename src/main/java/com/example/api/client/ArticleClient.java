@@ -1,13 +1,50 @@
 package com.example.api.client;
 
+import com.example.api.dto.ArticleBatchResultDto;
 import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 
 public interface ArticleClient {
   ArticleDto create(ArticleDto dto);
   ArticleDto readOne(Long id);
   List<ArticleDto> readAll();
+  // /articles/paged (page는 0부터)
+  ArticlePageDto readPage(int page, int limit);
   ArticleDto update(Long id, ArticleDto dto);
   void delete(Long id);
+
+  // 전체 게시글을 limit 개씩 페이지 단위로 읽는다.
+  // 호출하는 쪽이 한 페이지를 처리하는 동안 다음 prefetch 개의 페이지를 미리 요청한다.
+  // 끝까지 읽지 않을 수 있으면 iterator()를 직접 받아서 close()한다.
+  default Pages readAllPaged(int limit, int prefetch) {
+    return () -> new PrefetchingPageIterator(this, limit, prefetch);
+  }
+
+  // 여러 게시글을 조회한다.
+  // 중복된 id는 한 번만 조회하고, 처음 나온 순서대로 결과를 돌려준다.
+  // 기본 구현은 하나씩 차례로 요청한다. (병렬 처리는 BatchingArticleClient)
+  default List<ArticleBatchResultDto> readMany(Collection<Long> ids) {
+    return new LinkedHashSet<>(ids).stream()
+      .filter(Objects::nonNull)
+      .map(id -> ArticleBatches.attempt(id, () -> readOne(id)))
+      .toList();
+  }
+
+  // 여러 게시글을 생성한다. 결과는 요청 순서와 같다.
+  default List<ArticleBatchResultDto> createAll(List<ArticleDto> dtos) {
+    return dtos.stream()
+      .map(dto -> ArticleBatches.attempt(null, () -> create(dto)))
+      .toList();
+  }
+
+  // readAllPaged의 결과 (iterator()는 close()할 수 있다.)
+  interface Pages extends Iterable<ArticleDto> {
+    @Override
+    PrefetchingPageIterator iterator();
+  }
 }
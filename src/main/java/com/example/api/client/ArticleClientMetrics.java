@@ -0,0 +1,18 @@
+package com.example.api.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// MeteredArticleClient, MeteredReactiveArticleClient가 같은 Timer를 사용하도록 모아둔다.
+final class ArticleClientMetrics {
+  private ArticleClientMetrics() {}
+
+  static Timer timer(MeterRegistry registry, String client, String operation, String outcome) {
+    return Timer.builder(MeteredArticleClient.REQUESTS)
+      .tag("client", client)
+      .tag("operation", operation)
+      .tag("outcome", outcome)
+      .publishPercentileHistogram()
+      .register(registry);
+  }
+}
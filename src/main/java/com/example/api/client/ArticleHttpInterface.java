@@ -1,12 +1,15 @@
 package com.example.api.client;
 
 import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.service.annotation.DeleteExchange;
 import org.springframework.web.service.annotation.GetExchange;
 import org.springframework.web.service.annotation.HttpExchange;
 import org.springframework.web.service.annotation.PostExchange;
+import org.springframework.web.service.annotation.PutExchange;
 
 import java.util.List;
 
@@ -39,8 +42,15 @@ public interface ArticleHttpInterface {
     @PathVariable("id") Long id
   );
 
+  // READ page (Query Parameter)
+  @GetExchange("/paged")
+  ArticlePageDto readPage(
+    @RequestParam("page") int page,
+    @RequestParam("limit") int limit
+  );
+
   // UPDATE
-  @PostExchange("/{id}")
+  @PutExchange("/{id}")
   ArticleDto update(
     @PathVariable("id") Long id,
     @RequestBody ArticleDto dto
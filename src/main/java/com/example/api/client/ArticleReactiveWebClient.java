@@ -0,0 +1,79 @@
+package com.example.api.client;
+
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@Lazy
+@RequiredArgsConstructor
+// ArticleWebClient와 같은 WebClient를 사용하지만,
+// block()을 호출하지 않고 Mono / Flux를 그대로 돌려준다.
+// (구독하는 쪽, 즉 Controller가 응답을 처리한다.)
+public class ArticleReactiveWebClient implements ReactiveArticleClient {
+  private final WebClient webClient;
+
+  // POST
+  public Mono<ArticleDto> create(ArticleDto dto) {
+    return webClient.post()
+      .uri("/articles")
+      .bodyValue(dto)
+      .retrieve()
+      .bodyToMono(ArticleDto.class)
+      .doOnNext(response -> log.debug("response: {}", response));
+  }
+
+  // GET
+  // readOne
+  public Mono<ArticleDto> readOne(Long id) {
+    return webClient.get()
+      .uri("/articles/{id}", id)
+      .retrieve()
+      .bodyToMono(ArticleDto.class);
+  }
+
+  // readAll
+  // bodyToFlux: JSON 배열 전체를 기다리지 않고,
+  // 원소 하나가 읽힐 때마다 ArticleDto로 발행한다. (목록 크기와 상관없이 메모리 사용량이 일정하다.)
+  public Flux<ArticleDto> readAll() {
+    return webClient.get()
+      .uri("/articles")
+      .retrieve()
+      .bodyToFlux(ArticleDto.class);
+  }
+
+  // readPage
+  public Mono<ArticlePageDto> readPage(int page, int limit) {
+    return webClient.get()
+      .uri("/articles/paged?page={page}&limit={limit}", page, limit)
+      .retrieve()
+      .bodyToMono(ArticlePageDto.class);
+  }
+
+  // PUT
+  public Mono<ArticleDto> update(Long id, ArticleDto dto) {
+    return webClient.put()
+      .uri("/articles/{id}", id)
+      .bodyValue(dto)
+      .retrieve()
+      .bodyToMono(ArticleDto.class);
+  }
+
+  // DELETE
+  public Mono<Void> delete(Long id) {
+    return webClient.delete()
+      .uri("/articles/{id}", id)
+      .retrieve()
+      .toBodilessEntity()
+      .doOnNext(responseEntity ->
+        log.debug("status code: {}", responseEntity.getStatusCode()))
+      .then();
+  }
+}
@@ -1,8 +1,10 @@
 package com.example.api.client;
 
 import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -12,14 +14,15 @@ import java.util.List;
 
 @Slf4j
 @Component
+@Lazy
 @RequiredArgsConstructor
-public class ArticleRestClient {
+public class ArticleRestClient implements ArticleClient {
   private final RestClient restClient;
 
   // POST
   // 동기식으로 작동한다.
   public ArticleDto create(ArticleDto dto) {
-    ArticleDto response = restClient
+    ResponseEntity<ArticleDto> responseEntity = restClient
       // POST 요청이다.
       .post()
       // 경로 설정
@@ -28,23 +31,22 @@ public class ArticleRestClient {
       .body(dto)
       // 여기부터 응답을 어떻게 처리할지
       .retrieve()
-      // 그냥 DTO가 반환된다.
-      .body(ArticleDto.class);
-    log.info("response: {}", response);
-
-    ResponseEntity<ArticleDto> responseEntity = restClient
-      .post()
-      .uri("/articles")
-      .body(dto)
-      .retrieve()
-      // 그냥 ResponseEntity가 반환된다.
+      // ResponseEntity가 반환된다. (Status, Header, Body)
       .toEntity(ArticleDto.class);
-    log.info("responseEntity: {}", responseEntity);
+    log.debug("responseEntity: {}", responseEntity);
 
-    return response;
+    return responseEntity.getBody();
   }
 
   // GET
+  // readOne
+  public ArticleDto readOne(Long id) {
+    return restClient.get()
+      .uri("/articles/{id}", id)
+      .retrieve()
+      .body(ArticleDto.class);
+  }
+
   // readAll
   public List<ArticleDto> readAll() {
     return restClient.get()
@@ -53,11 +55,29 @@ public class ArticleRestClient {
       .body(new ParameterizedTypeReference<>() {});
   }
 
+  // readPage
+  public ArticlePageDto readPage(int page, int limit) {
+    return restClient.get()
+      .uri("/articles/paged?page={page}&limit={limit}", page, limit)
+      .retrieve()
+      .body(ArticlePageDto.class);
+  }
+
+  // PUT
+  public ArticleDto update(Long id, ArticleDto dto) {
+    return restClient.put()
+      .uri("/articles/{id}", id)
+      .body(dto)
+      .retrieve()
+      .body(ArticleDto.class);
+  }
+
   // DELETE
   public void delete(Long id) {
     ResponseEntity<Void> responseEntity = restClient.delete()
       .uri("/articles/{id}", id)
       .retrieve()
       .toBodilessEntity();
+    log.debug("status code: {}", responseEntity.getStatusCode());
   }
 }
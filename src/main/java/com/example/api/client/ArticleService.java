@@ -2,6 +2,8 @@ package com.example.api.client;
 
 
 import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.support.RestClientAdapter;
@@ -10,6 +12,7 @@ import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 import java.util.List;
 
 @Component
+@Lazy
 public class ArticleService implements ArticleClient {
   // 사용할 때는 구현체를 만들어 주어야 한다.
   private final ArticleHttpInterface exchange;
@@ -40,6 +43,10 @@ public class ArticleService implements ArticleClient {
     return exchange.readAll();
   }
 
+  public ArticlePageDto readPage(int page, int limit) {
+    return exchange.readPage(page, limit);
+  }
+
   public ArticleDto update(Long id, ArticleDto dto) {
     return exchange.update(id, dto);
   }
@@ -0,0 +1,108 @@
+package com.example.api.client;
+
+import com.example.api.config.ArticleBatchProperties;
+import com.example.api.dto.ArticleBatchResultDto;
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+// readMany, createAll을 article.batch.concurrency 만큼 병렬로 보낸다.
+// 나머지 작업은 그대로 delegate에 전달한다.
+// 항목 수 제한(article.batch.max-size)은 Controller가 확인한다. (ArticleBatchLimit)
+public class BatchingArticleClient implements ArticleClient {
+  private final ArticleClient delegate;
+  // ArticleClientConfig.articleClientExecutor (Virtual Thread 또는 Platform Thread Pool, 종료는 Context가 한다.)
+  // 동시에 나가는 요청 수는 Semaphore로 제한한다.
+  // 모든 일괄 요청이 공유하므로 동시에 나가는 요청 수가 concurrency를 넘지 않는다.
+  private final ExecutorService executor;
+  private final Semaphore permits;
+
+  public BatchingArticleClient(
+    ArticleClient delegate,
+    ArticleBatchProperties properties,
+    ExecutorService executor
+  ) {
+    this.delegate = delegate;
+    this.executor = executor;
+    this.permits = new Semaphore(properties.getConcurrency());
+  }
+
+  @Override
+  public ArticleDto create(ArticleDto dto) {
+    return delegate.create(dto);
+  }
+
+  @Override
+  public ArticleDto readOne(Long id) {
+    return delegate.readOne(id);
+  }
+
+  @Override
+  public List<ArticleDto> readAll() {
+    return delegate.readAll();
+  }
+
+  @Override
+  public ArticlePageDto readPage(int page, int limit) {
+    return delegate.readPage(page, limit);
+  }
+
+  @Override
+  public ArticleDto update(Long id, ArticleDto dto) {
+    return delegate.update(id, dto);
+  }
+
+  @Override
+  public void delete(Long id) {
+    delegate.delete(id);
+  }
+
+  @Override
+  public List<ArticleBatchResultDto> readMany(Collection<Long> ids) {
+    List<Long> distinct = new LinkedHashSet<>(ids).stream()
+      .filter(Objects::nonNull)
+      .toList();
+    return fanOut(distinct.stream()
+      .map(id -> task(id, () -> delegate.readOne(id)))
+      .toList());
+  }
+
+  @Override
+  public List<ArticleBatchResultDto> createAll(List<ArticleDto> dtos) {
+    return fanOut(dtos.stream()
+      .map(dto -> task(null, () -> delegate.create(dto)))
+      .toList());
+  }
+
+  private Supplier<ArticleBatchResultDto> task(Long id, Supplier<ArticleDto> call) {
+    return () -> {
+      try {
+        permits.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return ArticleBatches.failure(id, e);
+      }
+      try {
+        return ArticleBatches.attempt(id, call);
+      } finally {
+        permits.release();
+      }
+    };
+  }
+
+  // 모든 작업을 제출한 뒤, 요청 순서대로 결과를 모은다.
+  private List<ArticleBatchResultDto> fanOut(List<Supplier<ArticleBatchResultDto>> tasks) {
+    List<CompletableFuture<ArticleBatchResultDto>> futures = tasks.stream()
+      .map(task -> CompletableFuture.supplyAsync(task, executor))
+      .toList();
+    List<ArticleBatchResultDto> results = new ArrayList<>(futures.size());
+    for (CompletableFuture<ArticleBatchResultDto> future : futures)
+      results.add(future.join());
+    return results;
+  }
+}
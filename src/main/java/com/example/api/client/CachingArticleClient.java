@@ -0,0 +1,145 @@
+package com.example.api.client;
+
+import com.example.api.config.ArticleCacheProperties;
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+// 다른 ArticleClient를 감싸서 조회 결과를 캐시하는 Decorator
+// - readOne: id 별로 캐시
+// - readAll: 전체 목록을 하나의 Entry로 캐시
+// - create, update, delete: 관련 Entry를 무효화한다.
+// Caffeine(W-TinyLFU)으로 TTL과 크기 제한을 적용한다.
+@Slf4j
+public class CachingArticleClient implements ArticleClient, MeterBinder {
+  private static final String ALL = "all";
+
+  private final ArticleClient delegate;
+  // Virtual Thread 모드면 Upstream 호출은 Caffeine 내부 Lock 밖의 Virtual Thread에서 실행된다.
+  // (Lock을 잡은 채로 HTTP 응답을 기다리면 Virtual Thread가 Carrier Thread에 고정된다.)
+  // Platform Thread 모드면 호출한 스레드에서 바로 실행된다. (loader는 ArticleClientConfig가 고른다.)
+  // 같은 key를 동시에 요청하면 진행 중인 CompletableFuture를 같이 기다린다.
+  private final AsyncCache<Long, ArticleDto> articles;
+  private final AsyncCache<String, List<ArticleDto>> lists;
+
+  public CachingArticleClient(
+    ArticleClient delegate,
+    ArticleCacheProperties properties,
+    Executor loader
+  ) {
+    this.delegate = delegate;
+    Caffeine<Object, Object> builder = Caffeine.newBuilder()
+      .executor(loader)
+      .expireAfterWrite(properties.getTtl())
+      .recordStats();
+    if (properties.getMaximumWeight() > 0) {
+      this.articles = builder
+        .maximumWeight(properties.getMaximumWeight())
+        .<Long, ArticleDto>weigher((id, dto) -> weigh(dto))
+        .buildAsync();
+    } else {
+      this.articles = builder
+        .maximumSize(properties.getMaximumSize())
+        .buildAsync();
+    }
+    this.lists = Caffeine.newBuilder()
+      .executor(loader)
+      .expireAfterWrite(properties.getListTtl())
+      .maximumSize(1)
+      .recordStats()
+      .buildAsync();
+  }
+
+  @Override
+  public ArticleDto create(ArticleDto dto) {
+    ArticleDto response = delegate.create(dto);
+    lists.synchronous().invalidateAll();
+    if (response != null && response.getId() != null)
+      articles.put(response.getId(), CompletableFuture.completedFuture(response));
+    return response;
+  }
+
+  @Override
+  public ArticleDto readOne(Long id) {
+    // 캐시에 없을 때만 delegate를 호출한다.
+    // 예외(404 등)는 캐시되지 않는다.
+    return await(articles.get(id, delegate::readOne));
+  }
+
+  @Override
+  public List<ArticleDto> readAll() {
+    return await(lists.get(ALL, key -> {
+      // 빈 Body(null)는 빈 목록으로, null 항목은 빼고 캐시한다. (List.copyOf는 null을 받지 않는다.)
+      List<ArticleDto> body = delegate.readAll();
+      List<ArticleDto> response = body == null
+        ? List.of()
+        : body.stream().filter(Objects::nonNull).toList();
+      // 목록으로 받은 게시글로 id 캐시도 채워둔다.
+      response.forEach(article -> {
+        if (article.getId() != null)
+          articles.put(article.getId(), CompletableFuture.completedFuture(article));
+      });
+      return response;
+    }));
+  }
+
+  // 페이지는 캐시하지 않는다. (전체 목록을 훑는 용도라 다시 읽힐 일이 적다.)
+  @Override
+  public ArticlePageDto readPage(int page, int limit) {
+    return delegate.readPage(page, limit);
+  }
+
+  @Override
+  public ArticleDto update(Long id, ArticleDto dto) {
+    ArticleDto response = delegate.update(id, dto);
+    articles.synchronous().invalidate(id);
+    lists.synchronous().invalidateAll();
+    return response;
+  }
+
+  @Override
+  public void delete(Long id) {
+    delegate.delete(id);
+    articles.synchronous().invalidate(id);
+    lists.synchronous().invalidateAll();
+  }
+
+  // cache.gets{result=hit|miss}, cache.load.duration 등을 등록한다.
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, articles.synchronous(), "articles");
+    CaffeineCacheMetrics.monitor(registry, lists.synchronous(), "article-lists");
+  }
+
+  // delegate에서 발생한 예외를 그대로 다시 던진다.
+  private static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause)
+        throw cause;
+      if (e.getCause() instanceof Error cause)
+        throw cause;
+      throw e;
+    }
+  }
+
+  private static int weigh(ArticleDto dto) {
+    return length(dto.getTitle()) + length(dto.getContent()) + length(dto.getWriter()) + 1;
+  }
+
+  private static int length(String value) {
+    return value == null ? 0 : value.length();
+  }
+}
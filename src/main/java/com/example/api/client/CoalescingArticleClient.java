@@ -0,0 +1,90 @@
+package com.example.api.client;
+
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+// 같은 조회 요청이 동시에 여러 개 들어오면
+// 먼저 들어온 요청 하나만 delegate를 호출하고, 나머지는 그 결과를 같이 받는다. (Single Flight)
+// create, update, delete는 그대로 전달한다.
+public class CoalescingArticleClient implements ArticleClient {
+  private static final String ALL = "all";
+
+  private final ArticleClient delegate;
+  // 진행 중인 요청 (readOne: id, readAll: "all", readPage: "page:<page>:<limit>")
+  private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight
+    = new ConcurrentHashMap<>();
+
+  public CoalescingArticleClient(ArticleClient delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public ArticleDto create(ArticleDto dto) {
+    return delegate.create(dto);
+  }
+
+  @Override
+  public ArticleDto readOne(Long id) {
+    return coalesce(id, () -> delegate.readOne(id));
+  }
+
+  @Override
+  public List<ArticleDto> readAll() {
+    return coalesce(ALL, delegate::readAll);
+  }
+
+  @Override
+  public ArticlePageDto readPage(int page, int limit) {
+    return coalesce("page:" + page + ":" + limit, () -> delegate.readPage(page, limit));
+  }
+
+  @Override
+  public ArticleDto update(Long id, ArticleDto dto) {
+    return delegate.update(id, dto);
+  }
+
+  @Override
+  public void delete(Long id) {
+    delegate.delete(id);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T coalesce(Object key, Supplier<T> call) {
+    CompletableFuture<Object> mine = new CompletableFuture<>();
+    CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+    // 이미 같은 요청이 진행 중이면 그 결과를 기다린다.
+    if (running != null)
+      return (T) await(running);
+
+    try {
+      T result = call.get();
+      mine.complete(result);
+      return result;
+    } catch (RuntimeException | Error e) {
+      // 기다리던 요청들도 같은 예외를 받는다.
+      mine.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, mine);
+    }
+  }
+
+  private static Object await(CompletableFuture<Object> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause)
+        throw cause;
+      if (e.getCause() instanceof Error cause)
+        throw cause;
+      throw e;
+    }
+  }
+}
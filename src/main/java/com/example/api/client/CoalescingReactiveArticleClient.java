@@ -0,0 +1,76 @@
+package com.example.api.client;
+
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// CoalescingArticleClient의 Reactive 버전
+// 같은 조회가 진행 중이면 새로 요청을 보내지 않고 진행 중인 Mono를 같이 구독한다.
+public class CoalescingReactiveArticleClient implements ReactiveArticleClient {
+  private static final String ALL = "all";
+
+  private final ReactiveArticleClient delegate;
+  private final ConcurrentMap<Long, Mono<ArticleDto>> readOnes = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Mono<List<ArticleDto>>> readAlls = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Mono<ArticlePageDto>> readPages = new ConcurrentHashMap<>();
+
+  public CoalescingReactiveArticleClient(ReactiveArticleClient delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public Mono<ArticleDto> create(ArticleDto dto) {
+    return delegate.create(dto);
+  }
+
+  @Override
+  public Mono<ArticleDto> readOne(Long id) {
+    return coalesce(readOnes, id, () -> delegate.readOne(id));
+  }
+
+  // 늦게 구독한 쪽도 전체 목록을 받아야 하므로
+  // 목록을 모은 뒤 공유한다.
+  // (Streaming 되지 않으므로 NDJSON 응답도 목록이 모두 도착한 뒤 시작된다.)
+  @Override
+  public Flux<ArticleDto> readAll() {
+    return coalesce(readAlls, ALL, () -> delegate.readAll().collectList())
+      .flatMapIterable(list -> list);
+  }
+
+  @Override
+  public Mono<ArticlePageDto> readPage(int page, int limit) {
+    return coalesce(readPages, page + ":" + limit, () -> delegate.readPage(page, limit));
+  }
+
+  @Override
+  public Mono<ArticleDto> update(Long id, ArticleDto dto) {
+    return delegate.update(id, dto);
+  }
+
+  @Override
+  public Mono<Void> delete(Long id) {
+    return delegate.delete(id);
+  }
+
+  private static <K, T> Mono<T> coalesce(
+    ConcurrentMap<K, Mono<T>> inFlight, K key, Supplier<Mono<T>> call
+  ) {
+    return Mono.defer(() -> inFlight.computeIfAbsent(key, k -> {
+      AtomicReference<Mono<T>> self = new AtomicReference<>();
+      // share(): 구독자가 여럿이어도 Upstream 요청은 한 번만 보낸다.
+      // 요청이 끝나거나 모든 구독자가 취소하면 Map에서 제거된다.
+      Mono<T> shared = call.get()
+        .doFinally(signal -> inFlight.remove(k, self.get()))
+        .share();
+      self.set(shared);
+      return shared;
+    }));
+  }
+}
@@ -0,0 +1,260 @@
+package com.example.api.client;
+
+import com.example.api.config.ArticleHedgeProperties;
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 조회(readOne, readAll)에 응답이 늦으면 같은 요청을 한 번 더 보내고 (Hedged Request)
+// 먼저 도착한 응답을 사용한다. 늦은 쪽은 구독이 취소되어 WebClient 요청도 취소된다.
+// 한쪽이 실패해도 다른 쪽이 성공하면 그 응답을 사용한다. (둘 다 실패해야 오류)
+// - 대기 시간: 작업(readOne, readAll) 별 최근 응답 시간의 article.hedge.percentile 백분위수
+// - 예산: 추가 요청은 전체 요청의 article.hedge.budget 비율을 넘지 않는다.
+@Slf4j
+public class HedgingReactiveArticleClient implements ReactiveArticleClient {
+  private final ReactiveArticleClient delegate;
+  private final ArticleHedgeProperties properties;
+  // 작업마다 응답 시간 분포가 다르므로 따로 모은다.
+  private final LatencyWindow readOneLatencies;
+  private final LatencyWindow readAllLatencies;
+  private final HedgeBudget budget;
+  private final MeterRegistry registry;
+
+  public HedgingReactiveArticleClient(
+    ReactiveArticleClient delegate,
+    ArticleHedgeProperties properties,
+    MeterRegistry registry
+  ) {
+    this.delegate = delegate;
+    this.properties = properties;
+    this.readOneLatencies = new LatencyWindow(properties.getWindow(), properties.getPercentile());
+    this.readAllLatencies = new LatencyWindow(properties.getWindow(), properties.getPercentile());
+    this.budget = new HedgeBudget(properties.getBudget());
+    this.registry = registry;
+    Gauge.builder("article.hedge.delay", this, client -> client.delay(client.readOneLatencies).toMillis())
+      .tag("operation", "readOne")
+      .register(registry);
+    Gauge.builder("article.hedge.delay", this, client -> client.delay(client.readAllLatencies).toMillis())
+      .tag("operation", "readAll")
+      .register(registry);
+  }
+
+  @Override
+  public Mono<ArticleDto> create(ArticleDto dto) {
+    return delegate.create(dto);
+  }
+
+  @Override
+  public Mono<ArticleDto> readOne(Long id) {
+    return Mono.defer(() -> {
+      budget.deposit();
+      Failures failures = new Failures();
+      Mono<ArticleDto> primary = timed(delegate.readOne(id), readOneLatencies)
+        .doOnError(failures::primary)
+        .switchIfEmpty(Mono.fromRunnable(failures::primaryEmpty));
+      Mono<ArticleDto> hedge = hedgeAfter(readOneLatencies, failures)
+        .flatMap(tick -> tryHedge("readOne")
+          ? delegate.readOne(id).doOnError(failures::hedge)
+          : Mono.<ArticleDto>empty());
+      // 먼저 값을 보낸 쪽을 사용하고 나머지는 취소한다.
+      // 한쪽이 실패하면 다른 쪽을 기다리고, 둘 다 실패하면 첫 요청의 오류를 돌려준다.
+      return Mono.firstWithValue(primary, hedge)
+        .onErrorResume(e -> failures.resolve());
+    });
+  }
+
+  // 첫 번째 게시글이 먼저 도착한 쪽을 사용한다.
+  // (첫 게시글 전에 실패한 쪽은 무시하고, 첫 게시글 이후의 오류는 그대로 전달된다.)
+  @Override
+  public Flux<ArticleDto> readAll() {
+    return Flux.defer(() -> {
+      budget.deposit();
+      Failures failures = new Failures();
+      Flux<ArticleDto> primary = timed(delegate.readAll(), readAllLatencies)
+        .doOnError(failures::primary)
+        .switchIfEmpty(Mono.fromRunnable(failures::primaryEmpty));
+      Flux<ArticleDto> hedge = hedgeAfter(readAllLatencies, failures)
+        .flatMapMany(tick -> tryHedge("readAll")
+          ? delegate.readAll().doOnError(failures::hedge)
+          : Flux.<ArticleDto>empty());
+      return Flux.firstWithValue(primary, hedge)
+        .onErrorResume(e -> failures.<ArticleDto>resolve().flux());
+    });
+  }
+
+  // 페이지는 readAllPaged가 미리 요청해두므로 Hedging하지 않는다.
+  @Override
+  public Mono<ArticlePageDto> readPage(int page, int limit) {
+    return delegate.readPage(page, limit);
+  }
+
+  @Override
+  public Mono<ArticleDto> update(Long id, ArticleDto dto) {
+    return delegate.update(id, dto);
+  }
+
+  @Override
+  public Mono<Void> delete(Long id) {
+    return delegate.delete(id);
+  }
+
+  // 기다린 뒤 추가 요청을 보낼 신호
+  // 첫 요청이 그 전에 실패하면 (404처럼 다시 보내도 같은 결과) 보내지 않고 끝난다.
+  private Mono<Long> hedgeAfter(LatencyWindow latencies, Failures failures) {
+    return Mono.delay(delay(latencies))
+      .takeUntilOther(failures.primaryDone.asMono());
+  }
+
+  Duration delay(LatencyWindow latencies) {
+    long millis = latencies.percentileMillis();
+    if (millis < 0)
+      return properties.getInitialDelay();
+    millis = Math.max(millis, properties.getMinDelay().toMillis());
+    millis = Math.min(millis, properties.getMaxDelay().toMillis());
+    return Duration.ofMillis(millis);
+  }
+
+  private boolean tryHedge(String operation) {
+    boolean allowed = budget.tryWithdraw();
+    registry.counter("article.hedge.attempts",
+        "operation", operation,
+        "result", allowed ? "sent" : "over-budget")
+      .increment();
+    return allowed;
+  }
+
+  // 첫 요청의 응답 시간을 기록한다.
+  // 추가 요청에 져서 취소된 경우에도 그때까지 걸린 시간을 기록한다. (실제 응답 시간의 하한)
+  private <T> Mono<T> timed(Mono<T> mono, LatencyWindow latencies) {
+    return Mono.defer(() -> {
+      long start = System.nanoTime();
+      return mono.doFinally(signal -> record(signal, start, latencies));
+    });
+  }
+
+  // 목록은 첫 번째 게시글이 도착할 때까지의 시간을 기록한다.
+  private <T> Flux<T> timed(Flux<T> flux, LatencyWindow latencies) {
+    return Flux.defer(() -> {
+      long start = System.nanoTime();
+      AtomicBoolean recorded = new AtomicBoolean();
+      return flux
+        .doOnNext(article -> {
+          if (recorded.compareAndSet(false, true))
+            latencies.record(System.nanoTime() - start);
+        })
+        .doFinally(signal -> {
+          if (recorded.compareAndSet(false, true))
+            record(signal, start, latencies);
+        });
+    });
+  }
+
+  private void record(SignalType signal, long start, LatencyWindow latencies) {
+    if (signal == SignalType.ON_COMPLETE || signal == SignalType.CANCEL)
+      latencies.record(System.nanoTime() - start);
+  }
+
+  // 한 번의 조회에서 두 요청의 실패를 기록한다.
+  private static class Failures {
+    private final Sinks.Empty<Void> primaryDone = Sinks.empty();
+    private final AtomicReference<Throwable> primaryError = new AtomicReference<>();
+    private final AtomicReference<Throwable> hedgeError = new AtomicReference<>();
+
+    void primary(Throwable e) {
+      primaryError.compareAndSet(null, e);
+      primaryDone.tryEmitEmpty();
+    }
+
+    void primaryEmpty() {
+      primaryDone.tryEmitEmpty();
+    }
+
+    void hedge(Throwable e) {
+      hedgeError.compareAndSet(null, e);
+    }
+
+    // 두 요청 모두 값 없이 끝났을 때의 결과 (첫 요청의 오류, 없으면 추가 요청의 오류, 둘 다 없으면 빈 결과)
+    <T> Mono<T> resolve() {
+      Throwable e = primaryError.get() != null ? primaryError.get() : hedgeError.get();
+      return e == null ? Mono.empty() : Mono.error(e);
+    }
+  }
+
+  // 최근 응답 시간을 Ring Buffer에 보관하고, 일정 개수마다 백분위수를 다시 계산한다.
+  static class LatencyWindow {
+    private static final int RECOMPUTE_EVERY = 64;
+
+    private final AtomicLongArray samples;
+    private final AtomicLong count = new AtomicLong();
+    private final double percentile;
+    private volatile long percentileNanos = -1;
+
+    LatencyWindow(int size, double percentile) {
+      this.samples = new AtomicLongArray(Math.max(1, size));
+      this.percentile = percentile;
+    }
+
+    void record(long nanos) {
+      long n = count.getAndIncrement();
+      samples.set((int) (n % samples.length()), nanos);
+      if ((n + 1) % RECOMPUTE_EVERY == 0)
+        recompute(Math.min(n + 1, samples.length()));
+    }
+
+    long percentileMillis() {
+      long nanos = percentileNanos;
+      return nanos < 0 ? -1 : Duration.ofNanos(nanos).toMillis();
+    }
+
+    private void recompute(long filled) {
+      long[] sorted = new long[(int) filled];
+      for (int i = 0; i < sorted.length; i++)
+        sorted[i] = samples.get(i);
+      Arrays.sort(sorted);
+      int index = (int) Math.ceil(percentile * sorted.length) - 1;
+      percentileNanos = sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+  }
+
+  // 요청마다 budget 만큼 적립하고, 추가 요청을 보낼 때 1만큼 사용한다.
+  // 따라서 추가 요청 수는 전체 요청 수 * budget을 넘지 않는다.
+  static class HedgeBudget {
+    private static final long SCALE = 1_000_000;
+    // 한가할 때 적립된 예산이 한꺼번에 쓰이지 않도록 상한을 둔다.
+    private static final long MAX_TOKENS = 10 * SCALE;
+
+    private final long deposit;
+    private final AtomicLong tokens = new AtomicLong();
+
+    HedgeBudget(double ratio) {
+      this.deposit = Math.round(ratio * SCALE);
+    }
+
+    void deposit() {
+      tokens.accumulateAndGet(deposit, (current, amount) -> Math.min(MAX_TOKENS, current + amount));
+    }
+
+    boolean tryWithdraw() {
+      long current;
+      do {
+        current = tokens.get();
+        if (current < SCALE)
+          return false;
+      } while (!tokens.compareAndSet(current, current - SCALE));
+      return true;
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.example.api.client;
+
+import com.example.api.dto.ArticleBatchResultDto;
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+import com.example.api.search.ArticleSearchIndex;
+
+import java.util.Collection;
+import java.util.List;
+
+// 생성, 수정, 삭제가 성공하면 ArticleSearchIndex에도 반영한다.
+// 조회한 게시글도 최신 내용이므로 다시 색인한다.
+public class IndexingArticleClient implements ArticleClient {
+  private final ArticleClient delegate;
+  private final ArticleSearchIndex index;
+
+  public IndexingArticleClient(ArticleClient delegate, ArticleSearchIndex index) {
+    this.delegate = delegate;
+    this.index = index;
+  }
+
+  @Override
+  public ArticleDto create(ArticleDto dto) {
+    ArticleDto article = delegate.create(dto);
+    index.index(article);
+    return article;
+  }
+
+  @Override
+  public ArticleDto readOne(Long id) {
+    ArticleDto article = delegate.readOne(id);
+    index.index(article);
+    return article;
+  }
+
+  @Override
+  public List<ArticleDto> readAll() {
+    return delegate.readAll();
+  }
+
+  @Override
+  public ArticlePageDto readPage(int page, int limit) {
+    return delegate.readPage(page, limit);
+  }
+
+  @Override
+  public ArticleDto update(Long id, ArticleDto dto) {
+    ArticleDto article = delegate.update(id, dto);
+    index.index(article);
+    return article;
+  }
+
+  @Override
+  public void delete(Long id) {
+    delegate.delete(id);
+    index.remove(id);
+  }
+
+  @Override
+  public List<ArticleBatchResultDto> readMany(Collection<Long> ids) {
+    List<ArticleBatchResultDto> results = delegate.readMany(ids);
+    results.forEach(result -> index.index(result.getArticle()));
+    return results;
+  }
+
+  @Override
+  public List<ArticleBatchResultDto> createAll(List<ArticleDto> dtos) {
+    List<ArticleBatchResultDto> results = delegate.createAll(dtos);
+    results.forEach(result -> index.index(result.getArticle()));
+    return results;
+  }
+}
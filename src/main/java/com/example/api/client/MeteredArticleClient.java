@@ -0,0 +1,79 @@
+package com.example.api.client;
+
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+// ArticleClient 작업 별 지연 시간과 진행 중인 작업 수를 기록한다.
+// - article.client.requests{client, operation, outcome}: Histogram 포함
+// - article.client.active{client, operation}: 진행 중인 작업
+public class MeteredArticleClient implements ArticleClient {
+  public static final String REQUESTS = "article.client.requests";
+  public static final String ACTIVE = "article.client.active";
+
+  private final ArticleClient delegate;
+  private final MeterRegistry registry;
+  private final String client;
+
+  public MeteredArticleClient(ArticleClient delegate, MeterRegistry registry, String client) {
+    this.delegate = delegate;
+    this.registry = registry;
+    this.client = client;
+  }
+
+  @Override
+  public ArticleDto create(ArticleDto dto) {
+    return record("create", () -> delegate.create(dto));
+  }
+
+  @Override
+  public ArticleDto readOne(Long id) {
+    return record("readOne", () -> delegate.readOne(id));
+  }
+
+  @Override
+  public List<ArticleDto> readAll() {
+    return record("readAll", delegate::readAll);
+  }
+
+  @Override
+  public ArticlePageDto readPage(int page, int limit) {
+    return record("readPage", () -> delegate.readPage(page, limit));
+  }
+
+  @Override
+  public ArticleDto update(Long id, ArticleDto dto) {
+    return record("update", () -> delegate.update(id, dto));
+  }
+
+  @Override
+  public void delete(Long id) {
+    record("delete", () -> {
+      delegate.delete(id);
+      return null;
+    });
+  }
+
+  private <T> T record(String operation, Supplier<T> call) {
+    LongTaskTimer.Sample active = LongTaskTimer.builder(ACTIVE)
+      .tag("client", client)
+      .tag("operation", operation)
+      .register(registry)
+      .start();
+    Timer.Sample sample = Timer.start(registry);
+    String outcome = "error";
+    try {
+      T result = call.get();
+      outcome = "success";
+      return result;
+    } finally {
+      active.stop();
+      sample.stop(ArticleClientMetrics.timer(registry, client, operation, outcome));
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package com.example.api.client;
+
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+// MeteredArticleClient의 Reactive 버전
+// 구독한 시점부터 완료(또는 오류, 취소)될 때까지를 기록한다.
+public class MeteredReactiveArticleClient implements ReactiveArticleClient {
+  private final ReactiveArticleClient delegate;
+  private final MeterRegistry registry;
+  private final String client;
+
+  public MeteredReactiveArticleClient(
+    ReactiveArticleClient delegate, MeterRegistry registry, String client
+  ) {
+    this.delegate = delegate;
+    this.registry = registry;
+    this.client = client;
+  }
+
+  @Override
+  public Mono<ArticleDto> create(ArticleDto dto) {
+    return Mono.defer(() -> {
+      Recording recording = start("create");
+      return delegate.create(dto).doFinally(recording::stop);
+    });
+  }
+
+  @Override
+  public Mono<ArticleDto> readOne(Long id) {
+    return Mono.defer(() -> {
+      Recording recording = start("readOne");
+      return delegate.readOne(id).doFinally(recording::stop);
+    });
+  }
+
+  @Override
+  public Flux<ArticleDto> readAll() {
+    return Flux.defer(() -> {
+      Recording recording = start("readAll");
+      return delegate.readAll().doFinally(recording::stop);
+    });
+  }
+
+  @Override
+  public Mono<ArticlePageDto> readPage(int page, int limit) {
+    return Mono.defer(() -> {
+      Recording recording = start("readPage");
+      return delegate.readPage(page, limit).doFinally(recording::stop);
+    });
+  }
+
+  @Override
+  public Mono<ArticleDto> update(Long id, ArticleDto dto) {
+    return Mono.defer(() -> {
+      Recording recording = start("update");
+      return delegate.update(id, dto).doFinally(recording::stop);
+    });
+  }
+
+  @Override
+  public Mono<Void> delete(Long id) {
+    return Mono.defer(() -> {
+      Recording recording = start("delete");
+      return delegate.delete(id).doFinally(recording::stop);
+    });
+  }
+
+  private Recording start(String operation) {
+    LongTaskTimer.Sample active = LongTaskTimer.builder(MeteredArticleClient.ACTIVE)
+      .tag("client", client)
+      .tag("operation", operation)
+      .register(registry)
+      .start();
+    return new Recording(operation, active, Timer.start(registry));
+  }
+
+  private class Recording {
+    private final String operation;
+    private final LongTaskTimer.Sample active;
+    private final Timer.Sample sample;
+
+    Recording(String operation, LongTaskTimer.Sample active, Timer.Sample sample) {
+      this.operation = operation;
+      this.active = active;
+      this.sample = sample;
+    }
+
+    void stop(SignalType signal) {
+      String outcome = switch (signal) {
+        case ON_COMPLETE -> "success";
+        case CANCEL -> "cancelled";
+        default -> "error";
+      };
+      active.stop();
+      sample.stop(ArticleClientMetrics.timer(registry, client, operation, outcome));
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package com.example.api.client;
+
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+// ArticleClient.readAllPaged의 Iterator
+// 페이지 N을 돌려주는 동시에 다음 prefetch 개의 페이지를 Virtual Thread에서 미리 요청한다.
+// 메모리에는 최대 prefetch + 1 페이지만 올라간다.
+// 끝까지 읽기 전에 멈추면 close()를 호출해야 한다. 미리 요청한 페이지를 취소하고, 진행 중인 요청은 interrupt한다.
+// (요청이 실패해도 남은 요청을 취소한다.)
+public final class PrefetchingPageIterator implements Iterator<ArticleDto>, AutoCloseable {
+  private static final Executor PREFETCH_EXECUTOR = runnable ->
+    Thread.ofVirtual().name("article-page-prefetch").start(runnable);
+
+  private final ArticleClient client;
+  private final int limit;
+  private final int prefetch;
+  // FutureTask.cancel(true)는 실행 중인 Thread를 interrupt한다. (CompletableFuture는 하지 않는다.)
+  private final Deque<FutureTask<ArticlePageDto>> ahead = new ArrayDeque<>();
+  private Iterator<ArticleDto> current = Collections.emptyIterator();
+  private int nextPage;
+  // 첫 페이지를 받기 전에는 전체 페이지 수를 모르므로 더 요청하지 않는다.
+  private int totalPages = 1;
+  private boolean done;
+
+  PrefetchingPageIterator(ArticleClient client, int limit, int prefetch) {
+    this.client = client;
+    this.limit = limit;
+    this.prefetch = Math.max(0, prefetch);
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!current.hasNext()) {
+      if (done)
+        return false;
+      if (ahead.isEmpty()) {
+        if (nextPage >= totalPages) {
+          done = true;
+          return false;
+        }
+        request(nextPage++);
+      }
+
+      ArticlePageDto page;
+      try {
+        page = await(ahead.poll());
+      } catch (RuntimeException e) {
+        close();
+        throw e;
+      }
+      List<ArticleDto> content = page == null || page.getContent() == null
+        ? List.of()
+        : page.getContent();
+      if (page == null || page.isLast() || content.isEmpty()) {
+        close();
+      } else {
+        totalPages = page.getTotalPages();
+        // 호출하는 쪽이 이 페이지를 처리하는 동안 다음 페이지들을 받아둔다.
+        while (ahead.size() < prefetch && nextPage < totalPages)
+          request(nextPage++);
+      }
+      current = content.iterator();
+    }
+    return true;
+  }
+
+  @Override
+  public ArticleDto next() {
+    if (!hasNext())
+      throw new NoSuchElementException();
+    return current.next();
+  }
+
+  // 더 요청하지 않고, 미리 요청한 페이지를 취소한다. (이미 받은 페이지의 나머지는 돌려준다.)
+  @Override
+  public void close() {
+    done = true;
+    ahead.forEach(future -> future.cancel(true));
+    ahead.clear();
+  }
+
+  private void request(int page) {
+    FutureTask<ArticlePageDto> future = new FutureTask<>(() -> client.readPage(page, limit));
+    PREFETCH_EXECUTOR.execute(future);
+    ahead.add(future);
+  }
+
+  private static ArticlePageDto await(FutureTask<ArticlePageDto> future) {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause)
+        throw cause;
+      throw new IllegalStateException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.cancel(true);
+      throw new IllegalStateException("interrupted while waiting for a page", e);
+    }
+  }
+}
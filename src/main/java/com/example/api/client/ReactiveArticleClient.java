@@ -0,0 +1,58 @@
+package com.example.api.client;
+
+import com.example.api.dto.ArticleBatchResultDto;
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+// ArticleClient의 Non-Blocking 버전
+// 응답을 기다리지 않고 Mono / Flux를 그대로 반환한다.
+public interface ReactiveArticleClient {
+  Mono<ArticleDto> create(ArticleDto dto);
+  Mono<ArticleDto> readOne(Long id);
+  Flux<ArticleDto> readAll();
+  Mono<ArticlePageDto> readPage(int page, int limit);
+  Mono<ArticleDto> update(Long id, ArticleDto dto);
+  Mono<Void> delete(Long id);
+
+  // 전체 게시글을 limit 개씩 페이지 단위로 읽는다.
+  // 첫 페이지로 전체 페이지 수를 알아낸 뒤, 최대 prefetch 개의 페이지를 동시에 요청하고 순서대로 발행한다.
+  // 아래쪽에서 요청한 만큼만 페이지를 받아두므로 메모리는 최대 prefetch + 1 페이지
+  default Flux<ArticleDto> readAllPaged(int limit, int prefetch) {
+    return readPage(0, limit)
+      .flatMapMany(first -> Flux.concat(
+        Mono.just(first),
+        Flux.range(1, Math.max(0, first.getTotalPages() - 1))
+          .flatMapSequential(page -> readPage(page, limit), Math.max(1, prefetch), 1)))
+      .takeUntil(page -> page.isLast() || page.getContent() == null || page.getContent().isEmpty())
+      .concatMapIterable(page -> page.getContent() == null ? List.of() : page.getContent(), 1);
+  }
+
+  // 중복을 제거한 id를 최대 concurrency개씩 동시에 조회하고,
+  // 결과는 처음 나온 순서대로 발행한다. 항목마다 결과는 꼭 하나다. (빈 응답은 article이 null인 성공)
+  default Flux<ArticleBatchResultDto> readMany(Collection<Long> ids, int concurrency) {
+    return Flux.fromIterable(new LinkedHashSet<>(ids))
+      .filter(Objects::nonNull)
+      .flatMapSequential(id -> readOne(id)
+        .map(article -> ArticleBatchResultDto.success(id, article))
+        .defaultIfEmpty(ArticleBatchResultDto.success(id, null))
+        .onErrorResume(e -> Mono.just(ArticleBatches.failure(id, e))),
+        concurrency);
+  }
+
+  // 결과는 요청 순서와 같다. (ArticleClient.createAll과 같이 빈 응답은 id, article이 null인 성공)
+  default Flux<ArticleBatchResultDto> createAll(List<ArticleDto> dtos, int concurrency) {
+    return Flux.fromIterable(dtos)
+      .flatMapSequential(dto -> create(dto)
+        .map(article -> ArticleBatchResultDto.success(article.getId(), article))
+        .defaultIfEmpty(ArticleBatchResultDto.success(null, null))
+        .onErrorResume(e -> Mono.just(ArticleBatches.failure(null, e))),
+        concurrency);
+  }
+}
@@ -0,0 +1,59 @@
+package com.example.api.client;
+
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+import com.example.api.replica.ArticleReplicaStore;
+
+import java.util.List;
+
+// readOne, readAll은 SQLite 복제본에서 읽고, 쓰기는 Upstream으로 보낸 뒤 복제본에도 반영한다.
+// - 복제본에 없는 게시글은 Upstream에서 읽어서 저장한다.
+// - 복제본이 아직 준비되지 않았으면 (첫 동기화 전) readAll도 Upstream에서 읽는다.
+public class ReplicaArticleClient implements ArticleClient {
+  private final ArticleClient delegate;
+  private final ArticleReplicaStore store;
+
+  public ReplicaArticleClient(ArticleClient delegate, ArticleReplicaStore store) {
+    this.delegate = delegate;
+    this.store = store;
+  }
+
+  @Override
+  public ArticleDto create(ArticleDto dto) {
+    ArticleDto article = delegate.create(dto);
+    store.upsert(article);
+    return article;
+  }
+
+  @Override
+  public ArticleDto readOne(Long id) {
+    return store.findOne(id).orElseGet(() -> {
+      ArticleDto article = delegate.readOne(id);
+      store.upsert(article);
+      return article;
+    });
+  }
+
+  @Override
+  public List<ArticleDto> readAll() {
+    return store.isReady() ? store.findAll() : delegate.readAll();
+  }
+
+  @Override
+  public ArticlePageDto readPage(int page, int limit) {
+    return store.isReady() ? store.findPage(page, limit) : delegate.readPage(page, limit);
+  }
+
+  @Override
+  public ArticleDto update(Long id, ArticleDto dto) {
+    ArticleDto article = delegate.update(id, dto);
+    store.upsert(article);
+    return article;
+  }
+
+  @Override
+  public void delete(Long id) {
+    delegate.delete(id);
+    store.delete(id);
+  }
+}
@@ -0,0 +1,129 @@
+package com.example.api.client;
+
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+// Upstream 작업 별로 Bulkhead(동시 요청 수 제한)와 Circuit Breaker를 적용한다.
+// - Bulkhead가 가득 차면 기다리지 않고 바로 거절한다.
+// - 실패율이나 느린 호출 비율이 기준을 넘으면 Circuit이 열리고,
+//   일정 시간 뒤 일부 요청만 보내 보고(Half Open) 다시 닫을지 결정한다.
+// 거절된 조회는 마지막으로 성공한 결과가 있으면 그것을, 없으면 503을 돌려준다.
+@Slf4j
+public class ResilientArticleClient implements ArticleClient {
+  static final String FALLBACKS = "article.resilience.fallbacks";
+
+  private final ArticleClient delegate;
+  private final CircuitBreakerRegistry circuitBreakers;
+  private final BulkheadRegistry bulkheads;
+  private final MeterRegistry meterRegistry;
+  // null이면 거절된 요청은 항상 503
+  private final StaleArticles stale;
+
+  public ResilientArticleClient(
+    ArticleClient delegate,
+    CircuitBreakerRegistry circuitBreakers,
+    BulkheadRegistry bulkheads,
+    MeterRegistry meterRegistry,
+    boolean staleFallback,
+    long staleMaximumSize
+  ) {
+    this.delegate = delegate;
+    this.circuitBreakers = circuitBreakers;
+    this.bulkheads = bulkheads;
+    this.meterRegistry = meterRegistry;
+    this.stale = staleFallback ? new StaleArticles(staleMaximumSize) : null;
+  }
+
+  // Circuit Breaker, Bulkhead 이름 (resilience4j.*.instances.<이름>으로 개별 설정 가능)
+  static String name(String operation) {
+    return "article-" + operation;
+  }
+
+  @Override
+  public ArticleDto create(ArticleDto dto) {
+    ArticleDto article = call("create", () -> delegate.create(dto), Optional::empty);
+    if (stale != null)
+      stale.remember(article);
+    return article;
+  }
+
+  @Override
+  public ArticleDto readOne(Long id) {
+    ArticleDto article = call("readOne", () -> delegate.readOne(id),
+      () -> stale == null ? Optional.empty() : stale.one(id));
+    if (stale != null)
+      stale.remember(article);
+    return article;
+  }
+
+  @Override
+  public List<ArticleDto> readAll() {
+    List<ArticleDto> articles = call("readAll", delegate::readAll,
+      () -> stale == null ? Optional.empty() : stale.all());
+    if (stale != null && articles != null)
+      stale.rememberAll(articles);
+    return articles;
+  }
+
+  // 페이지 단위로는 마지막 응답을 기억하지 않는다.
+  @Override
+  public ArticlePageDto readPage(int page, int limit) {
+    return call("readPage", () -> delegate.readPage(page, limit), Optional::empty);
+  }
+
+  @Override
+  public ArticleDto update(Long id, ArticleDto dto) {
+    ArticleDto article = call("update", () -> delegate.update(id, dto), Optional::empty);
+    if (stale != null)
+      stale.remember(article);
+    return article;
+  }
+
+  @Override
+  public void delete(Long id) {
+    call("delete", () -> {
+      delegate.delete(id);
+      return null;
+    }, Optional::empty);
+    if (stale != null)
+      stale.forget(id);
+  }
+
+  private <T> T call(String operation, Supplier<T> call, Supplier<Optional<T>> fallback) {
+    CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(name(operation));
+    Bulkhead bulkhead = bulkheads.bulkhead(name(operation));
+    try {
+      // Bulkhead를 바깥에 두어 Bulkhead 거절이 Circuit Breaker 실패로 세어지지 않게 한다.
+      return Bulkhead.decorateSupplier(bulkhead,
+        CircuitBreaker.decorateSupplier(circuitBreaker, call)).get();
+    } catch (CallNotPermittedException | BulkheadFullException e) {
+      return fallback(operation, e, fallback);
+    }
+  }
+
+  private <T> T fallback(String operation, RuntimeException e, Supplier<Optional<T>> fallback) {
+    Optional<T> value = fallback.get();
+    meterRegistry.counter(FALLBACKS,
+        "operation", operation,
+        "reason", e instanceof CallNotPermittedException ? "circuit-open" : "bulkhead-full",
+        "result", value.isPresent() ? "stale" : "unavailable")
+      .increment();
+    log.debug("{} rejected: {}", operation, e.getMessage());
+    return value.orElseThrow(() -> new ResponseStatusException(
+      HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), e));
+  }
+}
@@ -0,0 +1,165 @@
+package com.example.api.client;
+
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+// ResilientArticleClient의 Reactive 버전
+// ResilientArticleClient와 같은 이름의 Circuit Breaker, Bulkhead를 사용하므로
+// 같은 Upstream에 대한 상태를 공유한다.
+@Slf4j
+public class ResilientReactiveArticleClient implements ReactiveArticleClient {
+  private final ReactiveArticleClient delegate;
+  private final CircuitBreakerRegistry circuitBreakers;
+  private final BulkheadRegistry bulkheads;
+  private final MeterRegistry meterRegistry;
+  private final StaleArticles stale;
+
+  public ResilientReactiveArticleClient(
+    ReactiveArticleClient delegate,
+    CircuitBreakerRegistry circuitBreakers,
+    BulkheadRegistry bulkheads,
+    MeterRegistry meterRegistry,
+    boolean staleFallback,
+    long staleMaximumSize
+  ) {
+    this.delegate = delegate;
+    this.circuitBreakers = circuitBreakers;
+    this.bulkheads = bulkheads;
+    this.meterRegistry = meterRegistry;
+    this.stale = staleFallback ? new StaleArticles(staleMaximumSize) : null;
+  }
+
+  @Override
+  public Mono<ArticleDto> create(ArticleDto dto) {
+    return guard("create", delegate.create(dto))
+      .doOnNext(this::remember)
+      .onErrorResume(ResilientReactiveArticleClient::rejected, e -> reject("create", e));
+  }
+
+  @Override
+  public Mono<ArticleDto> readOne(Long id) {
+    return guard("readOne", delegate.readOne(id))
+      .doOnNext(this::remember)
+      .onErrorResume(ResilientReactiveArticleClient::rejected, e -> Mono.fromSupplier(() ->
+        fallback("readOne", e, () -> stale == null ? Optional.empty() : stale.one(id))));
+  }
+
+  @Override
+  public Flux<ArticleDto> readAll() {
+    return Flux.defer(() -> {
+      Flux<ArticleDto> articles = guard("readAll", delegate.readAll());
+      // stale-fallback이 꺼져 있으면 모으지 않고 그대로 흘려보낸다. (NDJSON Streaming)
+      if (stale == null)
+        return articles;
+      // 끝까지 받은 목록만 기억한다. stale-maximum-size를 넘으면 그만 모은다.
+      List<ArticleDto> received = new ArrayList<>();
+      AtomicBoolean overflow = new AtomicBoolean();
+      return articles
+        .doOnNext(article -> {
+          if (overflow.get())
+            return;
+          if (received.size() >= stale.maximumSize()) {
+            overflow.set(true);
+            received.clear();
+            return;
+          }
+          received.add(article);
+        })
+        .doOnComplete(() -> {
+          if (overflow.get())
+            stale.forgetAll();
+          else
+            stale.rememberAll(received);
+        });
+    })
+      .onErrorResume(ResilientReactiveArticleClient::rejected, e -> Flux.defer(() -> Flux.fromIterable(
+        fallback("readAll", e, () -> stale == null ? Optional.empty() : stale.all()))));
+  }
+
+  @Override
+  public Mono<ArticlePageDto> readPage(int page, int limit) {
+    return guard("readPage", delegate.readPage(page, limit))
+      .onErrorResume(ResilientReactiveArticleClient::rejected, e -> reject("readPage", e));
+  }
+
+  @Override
+  public Mono<ArticleDto> update(Long id, ArticleDto dto) {
+    return guard("update", delegate.update(id, dto))
+      .doOnNext(this::remember)
+      .onErrorResume(ResilientReactiveArticleClient::rejected, e -> reject("update", e));
+  }
+
+  @Override
+  public Mono<Void> delete(Long id) {
+    return guard("delete", delegate.delete(id))
+      .doOnSuccess(done -> {
+        if (stale != null)
+          stale.forget(id);
+      })
+      .onErrorResume(ResilientReactiveArticleClient::rejected, e -> reject("delete", e));
+  }
+
+  // Bulkhead를 바깥에 두어 Bulkhead 거절이 Circuit Breaker 실패로 세어지지 않게 한다.
+  private <T> Mono<T> guard(String operation, Mono<T> call) {
+    return call
+      .transformDeferred(CircuitBreakerOperator.of(
+        circuitBreakers.circuitBreaker(ResilientArticleClient.name(operation))))
+      .transformDeferred(BulkheadOperator.of(
+        bulkheads.bulkhead(ResilientArticleClient.name(operation))));
+  }
+
+  private <T> Flux<T> guard(String operation, Flux<T> call) {
+    return call
+      .transformDeferred(CircuitBreakerOperator.of(
+        circuitBreakers.circuitBreaker(ResilientArticleClient.name(operation))))
+      .transformDeferred(BulkheadOperator.of(
+        bulkheads.bulkhead(ResilientArticleClient.name(operation))));
+  }
+
+  private void remember(ArticleDto article) {
+    if (stale != null)
+      stale.remember(article);
+  }
+
+  // 쓰기 작업은 대신 돌려줄 데이터가 없으므로 503
+  private <T> Mono<T> reject(String operation, Throwable e) {
+    return Mono.fromSupplier(() -> fallback(operation, e, Optional::<T>empty));
+  }
+
+  private <T> T fallback(String operation, Throwable e, Supplier<Optional<T>> fallback) {
+    Optional<T> value = fallback.get();
+    meterRegistry.counter(ResilientArticleClient.FALLBACKS,
+        "operation", operation,
+        "reason", e instanceof CallNotPermittedException ? "circuit-open" : "bulkhead-full",
+        "result", value.isPresent() ? "stale" : "unavailable")
+      .increment();
+    log.debug("{} rejected: {}", operation, e.getMessage());
+    return value.orElseThrow(() -> unavailable(e));
+  }
+
+  private static boolean rejected(Throwable e) {
+    return e instanceof CallNotPermittedException || e instanceof BulkheadFullException;
+  }
+
+  private static ResponseStatusException unavailable(Throwable e) {
+    return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), e);
+  }
+}
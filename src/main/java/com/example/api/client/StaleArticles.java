@@ -0,0 +1,65 @@
+package com.example.api.client;
+
+import com.example.api.dto.ArticleDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.List;
+import java.util.Optional;
+
+// 마지막으로 성공한 조회 결과
+// Circuit Breaker가 열렸을 때 503 대신 돌려줄 (오래되었을 수 있는) 데이터다.
+// 목록은 maximumSize개 이하일 때만 기억한다. (큰 목록을 통째로 붙잡아두지 않는다.)
+final class StaleArticles {
+  private final long maximumSize;
+  private final Cache<Long, ArticleDto> articles;
+  private volatile List<ArticleDto> all;
+
+  StaleArticles(long maximumSize) {
+    this.maximumSize = maximumSize;
+    this.articles = Caffeine.newBuilder()
+      .maximumSize(maximumSize)
+      .build();
+  }
+
+  void remember(ArticleDto article) {
+    if (article != null && article.getId() != null)
+      articles.put(article.getId(), article);
+  }
+
+  long maximumSize() {
+    return maximumSize;
+  }
+
+  // 너무 큰 목록이면 기억하지 않고, 이전 목록도 버린다.
+  void rememberAll(List<ArticleDto> list) {
+    if (list.size() > maximumSize) {
+      forgetAll();
+      return;
+    }
+    all = List.copyOf(list);
+    list.forEach(this::remember);
+  }
+
+  void forgetAll() {
+    all = null;
+  }
+
+  // 삭제된 게시글은 돌려주지 않는다.
+  void forget(Long id) {
+    articles.invalidate(id);
+    List<ArticleDto> current = all;
+    if (current != null)
+      all = current.stream()
+        .filter(article -> !id.equals(article.getId()))
+        .toList();
+  }
+
+  Optional<ArticleDto> one(Long id) {
+    return Optional.ofNullable(articles.getIfPresent(id));
+  }
+
+  Optional<List<ArticleDto>> all() {
+    return Optional.ofNullable(all);
+  }
+}
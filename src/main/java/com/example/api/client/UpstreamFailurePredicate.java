@@ -0,0 +1,19 @@
+package com.example.api.client;
+
+import java.util.function.Predicate;
+
+// Circuit Breaker가 실패로 셀 예외
+// 404, 400 같은 4xx 응답은 Upstream이 정상적으로 답한 것이므로 세지 않고,
+// 5xx 응답과 연결 실패, Timeout 같은 I/O 오류만 실패로 센다.
+// (resilience4j.circuitbreaker.configs.default.record-failure-predicate)
+public class UpstreamFailurePredicate implements Predicate<Throwable> {
+  @Override
+  public boolean test(Throwable e) {
+    return ArticleBatches.status(e) >= 500;
+  }
+
+  // 예외에 담긴 Upstream 응답 상태 코드 (연결 실패 등 응답이 없으면 502)
+  public static int status(Throwable e) {
+    return ArticleBatches.status(e);
+  }
+}
@@ -0,0 +1,117 @@
+package com.example.api.codec;
+
+import com.example.api.config.ArticleCodecProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.CodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+import java.util.List;
+import java.util.Set;
+
+// JSON 외에 Jackson Smile, CBOR 형식을 사용할 수 있도록 Converter / Codec을 만들어 둔다.
+// - Controller: Accept / Content-Type 헤더에 따라 JSON, Smile, CBOR 중 하나로 응답한다.
+// - Upstream: article.codec.upstream-format 형식으로 요청 Body를 보내고, 응답은 세 형식 모두 읽는다.
+// ArticleDto는 ArticleHttpMessageConverter가 미리 만든 ObjectReader / ObjectWriter로 처리한다.
+@Component
+public class ArticleCodecs {
+  public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+  private static final Set<HttpMethod> METHODS_WITH_BODY
+    = Set.of(HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH);
+
+  private final ArticleCodecProperties properties;
+  private final ObjectMapper smileMapper;
+  private final ObjectMapper cborMapper;
+  private final ArticleHttpMessageConverter jsonArticleConverter;
+  private final ArticleHttpMessageConverter smileArticleConverter;
+  private final ArticleHttpMessageConverter cborArticleConverter;
+
+  // Spring Boot가 설정한 ObjectMapper와 같은 설정(모듈, Feature)으로 Smile, CBOR ObjectMapper를 만든다.
+  public ArticleCodecs(
+    ObjectMapper objectMapper,
+    ObjectProvider<Jackson2ObjectMapperBuilder> mapperBuilders,
+    ArticleCodecProperties properties
+  ) {
+    this.properties = properties;
+    this.smileMapper = mapperBuilders.getObject().factory(new SmileFactory()).build();
+    this.cborMapper = mapperBuilders.getObject().factory(new CBORFactory()).build();
+    this.jsonArticleConverter = new ArticleHttpMessageConverter(
+      objectMapper, MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    this.smileArticleConverter = new ArticleHttpMessageConverter(smileMapper, APPLICATION_SMILE);
+    this.cborArticleConverter = new ArticleHttpMessageConverter(cborMapper, MediaType.APPLICATION_CBOR);
+  }
+
+  // 기존 Converter 앞에 둘 ArticleDto 전용 Converter (JSON이 먼저 선택되도록 JSON을 앞에 둔다.)
+  public List<HttpMessageConverter<?>> articleConverters() {
+    return List.of(jsonArticleConverter, smileArticleConverter, cborArticleConverter);
+  }
+
+  // 기존 Converter 뒤에 둘 Smile, CBOR Converter (ArticleBatchResultDto 등)
+  public List<HttpMessageConverter<?>> binaryConverters() {
+    return List.of(
+      new MappingJackson2SmileHttpMessageConverter(smileMapper),
+      new MappingJackson2CborHttpMessageConverter(cborMapper));
+  }
+
+  // RestTemplate, RestClient의 Converter 목록 앞에 둘 Converter
+  // 첫 번째 Converter의 형식으로 요청 Body를 쓰고, Accept 헤더에는 읽을 수 있는 형식이 모두 들어간다.
+  public List<HttpMessageConverter<?>> upstreamConverters() {
+    return switch (properties.getUpstreamFormat()) {
+      case JSON -> List.of(jsonArticleConverter, smileArticleConverter, cborArticleConverter);
+      case SMILE -> List.of(smileArticleConverter, new MappingJackson2SmileHttpMessageConverter(smileMapper),
+        jsonArticleConverter, cborArticleConverter);
+      case CBOR -> List.of(cborArticleConverter, new MappingJackson2CborHttpMessageConverter(cborMapper),
+        jsonArticleConverter, smileArticleConverter);
+    };
+  }
+
+  // WebClient(Client), WebFlux(Server)에 Smile, CBOR Codec을 등록한다.
+  public void registerCodecs(CodecConfigurer configurer) {
+    CodecConfigurer.CustomCodecs codecs = configurer.customCodecs();
+    codecs.register(new Jackson2SmileEncoder(smileMapper));
+    codecs.register(new Jackson2SmileDecoder(smileMapper));
+    codecs.register(new Jackson2CborEncoder(cborMapper));
+    codecs.register(new Jackson2CborDecoder(cborMapper));
+  }
+
+  // WebClient 요청의 Content-Type, Accept를 article.codec.upstream-format에 맞춘다.
+  // Encoder는 요청의 Content-Type을 보고 고르므로, Body를 쓰기 전에 정해두면 된다.
+  public ExchangeFilterFunction upstreamFormatFilter() {
+    MediaType mediaType = upstreamMediaType();
+    return (request, next) -> next.exchange(ClientRequest.from(request)
+      .headers(headers -> {
+        if (METHODS_WITH_BODY.contains(request.method()))
+          headers.setContentType(mediaType);
+        if (!headers.containsKey(HttpHeaders.ACCEPT))
+          headers.setAccept(List.of(mediaType, MediaType.APPLICATION_JSON));
+      })
+      .build());
+  }
+
+  public boolean isUpstreamJson() {
+    return properties.getUpstreamFormat() == ArticleCodecProperties.Format.JSON;
+  }
+
+  public MediaType upstreamMediaType() {
+    return switch (properties.getUpstreamFormat()) {
+      case JSON -> MediaType.APPLICATION_JSON;
+      case SMILE -> APPLICATION_SMILE;
+      case CBOR -> MediaType.APPLICATION_CBOR;
+    };
+  }
+}
@@ -0,0 +1,94 @@
+package com.example.api.codec;
+
+import com.example.api.dto.ArticleDto;
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+// ArticleDto, List<ArticleDto> 전용 HttpMessageConverter
+// 요청마다 타입 정보를 찾지 않도록 ObjectReader / ObjectWriter를 미리 만들어 재사용한다.
+// ObjectMapper의 JsonFactory에 따라 JSON, Smile, CBOR 중 하나를 읽고 쓴다.
+public class ArticleHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+  private final ObjectReader articleReader;
+  private final ObjectReader listReader;
+  private final ObjectWriter articleWriter;
+  private final ObjectWriter listWriter;
+
+  public ArticleHttpMessageConverter(ObjectMapper objectMapper, MediaType... supportedMediaTypes) {
+    super(supportedMediaTypes);
+    JavaType listType = objectMapper.getTypeFactory()
+      .constructCollectionType(List.class, ArticleDto.class);
+    this.articleReader = objectMapper.readerFor(ArticleDto.class);
+    this.listReader = objectMapper.readerFor(listType);
+    this.articleWriter = objectMapper.writerFor(ArticleDto.class);
+    this.listWriter = objectMapper.writerFor(listType);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return ArticleDto.class == clazz;
+  }
+
+  @Override
+  public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+    return (isArticle(type) || isArticleList(type)) && canRead(mediaType);
+  }
+
+  @Override
+  public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+    if (type == null || type instanceof Class<?>)
+      return supports(clazz) && canWrite(mediaType);
+    return (isArticle(type) || isArticleList(type)) && canWrite(mediaType);
+  }
+
+  @Override
+  public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage)
+    throws IOException {
+    return read(isArticleList(type) ? listReader : articleReader, inputMessage);
+  }
+
+  @Override
+  protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+    return read(articleReader, inputMessage);
+  }
+
+  @Override
+  protected void writeInternal(Object value, @Nullable Type type, HttpOutputMessage outputMessage)
+    throws IOException {
+    ObjectWriter writer = value instanceof List<?> ? listWriter : articleWriter;
+    // Stream은 Spring이 닫는다.
+    writer.writeValue(StreamUtils.nonClosing(outputMessage.getBody()), value);
+  }
+
+  private static Object read(ObjectReader reader, HttpInputMessage inputMessage) throws IOException {
+    try {
+      return reader.readValue(StreamUtils.nonClosing(inputMessage.getBody()));
+    } catch (JacksonException e) {
+      throw new HttpMessageNotReadableException(e.getOriginalMessage(), e, inputMessage);
+    }
+  }
+
+  private static boolean isArticle(Type type) {
+    return type == ArticleDto.class;
+  }
+
+  private static boolean isArticleList(Type type) {
+    return type instanceof ParameterizedType parameterized
+      && parameterized.getRawType() == List.class
+      && parameterized.getActualTypeArguments()[0] == ArticleDto.class;
+  }
+}
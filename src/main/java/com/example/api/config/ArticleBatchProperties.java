@@ -0,0 +1,16 @@
+package com.example.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// readMany, createAll 설정
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "article.batch")
+public class ArticleBatchProperties {
+  // 일괄 처리 중 동시에 Upstream으로 보내는 요청 수
+  private int concurrency = 8;
+  // 한 번에 처리할 수 있는 최대 항목 수
+  private int maxSize = 500;
+}
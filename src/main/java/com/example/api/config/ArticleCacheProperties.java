@@ -0,0 +1,23 @@
+package com.example.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// CachingArticleClient 설정
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "article.cache")
+public class ArticleCacheProperties {
+  private boolean enabled = false;
+  // 캐시에 들어간 뒤 만료되기까지의 시간
+  private Duration ttl = Duration.ofSeconds(30);
+  // readAll 결과(전체 목록)의 만료 시간
+  private Duration listTtl = Duration.ofSeconds(5);
+  // 최대 Entry 수 (maximum-weight가 0보다 크면 무시된다.)
+  private long maximumSize = 10_000;
+  // Entry 크기(title, content, writer 글자 수)의 합의 상한
+  private long maximumWeight = 0;
+}
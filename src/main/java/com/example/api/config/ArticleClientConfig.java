@@ -0,0 +1,141 @@
+package com.example.api.config;
+
+import com.example.api.client.*;
+import com.example.api.replica.ArticleReplicaStore;
+import com.example.api.search.ArticleSearchIndex;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+// Controller에 주입될 ArticleClient를 조립한다.
+// article.client.type으로 구현체를 고르고, 설정된 Decorator로 감싼다.
+// (Strategy Pattern + Decorator Pattern)
+// 구현체와 RestTemplate, WebClient, RestClient, Connection Pool은 모두 @Lazy이므로
+// article.client.type으로 고른 구현체(와 그 구현체가 쓰는 HTTP Client)만 만들어진다.
+public class ArticleClientConfig {
+  private final ArticleClientProperties clientProperties;
+  private final ArticleCacheProperties cacheProperties;
+  private final ArticleBatchProperties batchProperties;
+  private final ArticleHedgeProperties hedgeProperties;
+  private final ArticleResilienceProperties resilienceProperties;
+  private final ArticleReplicaProperties replicaProperties;
+  private final ArticleSearchProperties searchProperties;
+  // Decorator가 쓰는 Thread도 Tomcat과 같이 이 설정을 따른다. (Platform / Virtual 비교)
+  @Value("${spring.threads.virtual.enabled:false}")
+  private boolean virtualThreads;
+
+  // article.client.type으로 고른 구현체 (Decorator 없음)
+  // 색인, 복제본처럼 Upstream 전체를 읽어서 채우는 쪽(ArticleSearchIndexer, ArticleReplicaSync)은
+  // 캐시, 복제본, 지표 Decorator를 거치지 않고 이 Bean으로 읽는다.
+  @Bean
+  public ArticleClient upstreamArticleClient(
+    ObjectProvider<ArticleTemplateClient> templateClient,
+    ObjectProvider<ArticleWebClient> webClient,
+    ObjectProvider<ArticleRestClient> restClient,
+    ObjectProvider<ArticleService> service
+  ) {
+    log.info("article client: {}", clientProperties.getType());
+    return switch (clientProperties.getType()) {
+      case TEMPLATE -> templateClient.getObject();
+      case WEB -> webClient.getObject();
+      case REST -> restClient.getObject();
+      case INTERFACE -> service.getObject();
+    };
+  }
+
+  @Bean
+  @Primary
+  public ArticleClient articleClient(
+    @Qualifier("upstreamArticleClient") ArticleClient upstreamArticleClient,
+    MeterRegistry meterRegistry,
+    CircuitBreakerRegistry circuitBreakers,
+    BulkheadRegistry bulkheads,
+    ObjectProvider<ArticleReplicaStore> replicaStore,
+    ArticleSearchIndex searchIndex,
+    ExecutorService articleClientExecutor
+  ) {
+    ArticleClient client = upstreamArticleClient;
+    // 구현체의 작업 별 지연 시간 (article.client.requests)
+    client = new MeteredArticleClient(
+      client, meterRegistry, clientProperties.getType().name().toLowerCase());
+    // Upstream이 느려지거나 실패하면 요청을 쌓아두지 않고 바로 거절한다.
+    if (resilienceProperties.isEnabled())
+      client = new ResilientArticleClient(
+        client, circuitBreakers, bulkheads, meterRegistry,
+        resilienceProperties.isStaleFallback(), resilienceProperties.getStaleMaximumSize());
+    // 조회는 SQLite 복제본에서, 쓰기는 Upstream으로
+    if (replicaProperties.isEnabled())
+      client = new ReplicaArticleClient(client, replicaStore.getObject());
+
+    if (clientProperties.isCoalescing())
+      client = new CoalescingArticleClient(client);
+    if (cacheProperties.isEnabled()) {
+      // Platform Thread면 이전처럼 호출한 스레드에서 바로 읽어온다.
+      Executor loader = virtualThreads ? articleClientExecutor : Runnable::run;
+      CachingArticleClient cachingClient = new CachingArticleClient(client, cacheProperties, loader);
+      cachingClient.bindTo(meterRegistry);
+      client = cachingClient;
+    }
+    // readMany, createAll을 병렬로 처리한다.
+    client = new BatchingArticleClient(client, batchProperties, articleClientExecutor);
+    // 성공한 쓰기를 검색 색인에 반영한다.
+    if (searchProperties.isEnabled())
+      client = new IndexingArticleClient(client, searchIndex);
+    return client;
+  }
+
+  // BatchingArticleClient의 fan-out과 CachingArticleClient의 Upstream 조회를 실행한다.
+  // spring.threads.virtual.enabled=true: 작업마다 Virtual Thread
+  // false: article.batch.concurrency 크기의 Platform Thread Pool
+  // Context가 닫힐 때 함께 종료한다.
+  @Bean(destroyMethod = "shutdownNow")
+  public ExecutorService articleClientExecutor() {
+    if (virtualThreads)
+      return Executors.newVirtualThreadPerTaskExecutor();
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("article-batch-");
+    threadFactory.setDaemon(true);
+    return Executors.newFixedThreadPool(batchProperties.getConcurrency(), threadFactory);
+  }
+
+  // ReactiveArticleController에 주입될 ReactiveArticleClient
+  // (blocking 모드에서는 NDJSON 요청이 처음 들어올 때 만들어진다.)
+  @Bean
+  @Primary
+  @Lazy
+  public ReactiveArticleClient reactiveArticleClient(
+    ArticleReactiveWebClient reactiveWebClient,
+    MeterRegistry meterRegistry,
+    CircuitBreakerRegistry circuitBreakers,
+    BulkheadRegistry bulkheads
+  ) {
+    ReactiveArticleClient client = new MeteredReactiveArticleClient(
+      reactiveWebClient, meterRegistry, "reactive-web");
+    if (resilienceProperties.isEnabled())
+      client = new ResilientReactiveArticleClient(
+        client, circuitBreakers, bulkheads, meterRegistry,
+        resilienceProperties.isStaleFallback(), resilienceProperties.getStaleMaximumSize());
+    // 늦은 조회는 한 번 더 보낸다. 합쳐진 요청(coalescing)도 같은 Hedge를 공유한다.
+    if (hedgeProperties.isEnabled())
+      client = new HedgingReactiveArticleClient(client, hedgeProperties, meterRegistry);
+    if (clientProperties.isCoalescing())
+      client = new CoalescingReactiveArticleClient(client);
+    return client;
+  }
+}
@@ -0,0 +1,26 @@
+package com.example.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// Controller가 사용할 ArticleClient 구현체를 고른다.
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "article.client")
+public class ArticleClientProperties {
+  private ClientType type = ClientType.TEMPLATE;
+  // 동시에 들어온 같은 조회 요청을 하나의 Upstream 요청으로 합친다.
+  private boolean coalescing = false;
+
+  public enum ClientType {
+    // ArticleTemplateClient
+    TEMPLATE,
+    // ArticleWebClient
+    WEB,
+    // ArticleRestClient
+    REST,
+    // ArticleService (HTTP Interface)
+    INTERFACE
+  }
+}
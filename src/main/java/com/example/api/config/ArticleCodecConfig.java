@@ -0,0 +1,33 @@
+package com.example.api.config;
+
+import com.example.api.codec.ArticleCodecs;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+// Controller가 JSON 외에 Smile, CBOR로도 요청을 읽고 응답할 수 있게 한다.
+// (Accept: application/x-jackson-smile, application/cbor)
+public class ArticleCodecConfig implements WebMvcConfigurer {
+  private final ArticleCodecs articleCodecs;
+
+  // Spring MVC
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.addAll(0, articleCodecs.articleConverters());
+    // 뒤에 두어야 Accept 헤더가 없을 때 JSON으로 응답한다.
+    converters.addAll(articleCodecs.binaryConverters());
+  }
+
+  // WebFlux (spring.main.web-application-type=reactive)
+  @Bean
+  public CodecCustomizer articleCodecCustomizer() {
+    return articleCodecs::registerCodecs;
+  }
+}
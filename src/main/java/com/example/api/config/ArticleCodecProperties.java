@@ -0,0 +1,35 @@
+package com.example.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+// Upstream과 주고받는 Body 형식과 압축 설정 (ArticleCodecs)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "article.codec")
+public class ArticleCodecProperties {
+  // Upstream으로 보내는 Body 형식, 응답은 Accept 헤더로 협상한다.
+  private Format upstreamFormat = Format.JSON;
+  private Compression compression = new Compression();
+
+  @Getter
+  @Setter
+  public static class Compression {
+    private boolean enabled = false;
+    // 요청 Body를 압축하는 방식 (응답은 Upstream이 고른 방식을 그대로 풀어준다.)
+    private Encoding encoding = Encoding.GZIP;
+    // 이 크기 이상인 요청 Body만 압축한다.
+    private DataSize threshold = DataSize.ofKilobytes(2);
+  }
+
+  // Content-Encoding 값 (소문자)
+  public enum Encoding {
+    GZIP, DEFLATE
+  }
+
+  public enum Format {
+    JSON, SMILE, CBOR
+  }
+}
@@ -0,0 +1,49 @@
+package com.example.api.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+@Configuration
+// article.etag.server.enabled=true 일 때 /articles 조회 응답에 ETag를 붙이고,
+// 요청의 If-None-Match와 같으면 Body 없이 304를 보낸다.
+// passthrough 모드는 Upstream의 ETag를 그대로 전달하므로 등록하지 않는다.
+@ConditionalOnExpression(
+  "${article.etag.server.enabled:false} and '${article.controller.mode:blocking}' != 'passthrough'")
+public class ArticleEtagConfig {
+  @Bean
+  public FilterRegistrationBean<ArticleEtagFilter> articleEtagFilter() {
+    FilterRegistrationBean<ArticleEtagFilter> registration
+      = new FilterRegistrationBean<>(new ArticleEtagFilter());
+    registration.addUrlPatterns("/articles", "/articles/*");
+    // ConcurrencyLimitFilter 다음, 응답 압축보다 먼저 Body를 본다.
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+    return registration;
+  }
+
+  // 응답 Body의 해시로 ETag를 만든다. (응답 전체를 모은 뒤에 보낸다.)
+  // - server.compression으로 압축되어도 같은 내용이므로 Weak ETag를 쓴다.
+  // - 조회가 아닌 요청과 Streaming 응답(NDJSON, /articles/export)은 모으지 않도록 건너뛴다.
+  static class ArticleEtagFilter extends ShallowEtagHeaderFilter {
+    ArticleEtagFilter() {
+      setWriteWeakETag(true);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+      if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod()))
+        return true;
+      String accept = request.getHeader(HttpHeaders.ACCEPT);
+      if (accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE))
+        return true;
+      return request.getRequestURI().endsWith("/export");
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.example.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+// 조건부 GET (ETag, Last-Modified) 설정
+// - upstream: UpstreamRevalidationCache (Upstream 응답을 검증자와 함께 보관하고 304면 다시 사용한다.)
+// - server: ArticleEtagConfig (/articles 응답에 ETag를 붙이고 If-None-Match가 같으면 304)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "article.etag")
+public class ArticleEtagProperties {
+  private Upstream upstream = new Upstream();
+  private Server server = new Server();
+
+  @Getter
+  @Setter
+  public static class Upstream {
+    private boolean enabled = false;
+    // 보관하는 응답 Body 크기의 합
+    private DataSize maximumSize = DataSize.ofMegabytes(64);
+    // 이보다 큰 응답은 보관하지 않는다.
+    private DataSize maximumEntrySize = DataSize.ofMegabytes(8);
+  }
+
+  @Getter
+  @Setter
+  public static class Server {
+    private boolean enabled = false;
+  }
+}
@@ -0,0 +1,25 @@
+package com.example.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// HedgingReactiveArticleClient 설정
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "article.hedge")
+public class ArticleHedgeProperties {
+  private boolean enabled = false;
+  // 최근 응답 시간의 이 백분위수만큼 기다려도 응답이 없으면 요청을 한 번 더 보낸다.
+  private double percentile = 0.95;
+  // 백분위수를 계산할 최근 응답 시간 개수
+  private int window = 1000;
+  // 응답 시간이 충분히 모이기 전에 사용할 대기 시간
+  private Duration initialDelay = Duration.ofMillis(50);
+  private Duration minDelay = Duration.ofMillis(5);
+  private Duration maxDelay = Duration.ofSeconds(1);
+  // 추가 요청은 전체 요청의 이 비율을 넘지 않는다.
+  private double budget = 0.05;
+}
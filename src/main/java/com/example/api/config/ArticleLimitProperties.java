@@ -0,0 +1,44 @@
+package com.example.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// /articles, /test 요청 수 제한 (ConcurrencyLimitFilter)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "article.limit")
+public class ArticleLimitProperties {
+  private boolean enabled = false;
+  // 동시 처리 요청 수의 시작 값과 범위
+  private int initialLimit = 20;
+  private int minLimit = 4;
+  private int maxLimit = 500;
+  // 평소 응답 시간(long RTT)을 계산할 때 반영하는 최근 응답 수
+  private int longWindow = 600;
+  // 응답 시간이 평소의 이 배수까지 늘어나는 것은 허용한다.
+  private double tolerance = 1.5;
+  // 새로 계산한 Limit을 반영하는 비율
+  private double smoothing = 0.2;
+  // 5xx 응답, 예외가 발생하면 Limit에 곱하는 값
+  private double backoffRatio = 0.9;
+  // 거절할 때 Retry-After 헤더 값
+  private Duration retryAfter = Duration.ofSeconds(1);
+
+  private Caller caller = new Caller();
+
+  // 호출자 별 Token Bucket
+  @Getter
+  @Setter
+  public static class Caller {
+    private boolean enabled = false;
+    // 호출자를 구분할 헤더, 없으면 접속한 IP로 구분한다.
+    private String header = "X-Caller-Id";
+    // 초당 채워지는 Token 수와 Bucket 크기
+    private double rate = 50;
+    private int burst = 100;
+    private long maximumCallers = 100_000;
+  }
+}
@@ -0,0 +1,16 @@
+package com.example.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// 페이지 단위 조회 설정 (/articles/paged, /articles/export)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "article.paging")
+public class ArticlePagingProperties {
+  // limit을 지정하지 않았을 때 한 페이지의 게시글 수
+  private int pageSize = 100;
+  // 한 페이지를 내보내는 동안 미리 요청해둘 다음 페이지 수 (0이면 미리 받지 않는다.)
+  private int prefetch = 2;
+}
@@ -0,0 +1,19 @@
+package com.example.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// SQLite 복제본 설정 (ArticleReplicaSync, ReplicaArticleClient)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "article.replica")
+public class ArticleReplicaProperties {
+  private boolean enabled = false;
+  // 동기화가 끝난 뒤 다음 동기화까지 기다리는 시간
+  private Duration syncInterval = Duration.ofSeconds(30);
+  // /articles/paged 한 번에 가져올 게시글 수
+  private int pageSize = 100;
+}
@@ -0,0 +1,17 @@
+package com.example.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// ResilientArticleClient, ResilientReactiveArticleClient 설정
+// Circuit Breaker, Bulkhead의 세부 설정은 resilience4j.* 속성을 따른다.
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "article.resilience")
+public class ArticleResilienceProperties {
+  private boolean enabled = false;
+  // Circuit이 열렸을 때 마지막으로 성공한 조회 결과를 돌려준다.
+  private boolean staleFallback = true;
+  private long staleMaximumSize = 10_000;
+}
@@ -0,0 +1,20 @@
+package com.example.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// 게시글 검색 설정 (ArticleSearchIndex, ArticleSearchIndexer, ArticleSearchController)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "article.search")
+public class ArticleSearchProperties {
+  private boolean enabled = false;
+  // 전체 게시글로 색인을 다시 만드는 간격 (그 사이의 변경은 IndexingArticleClient가 반영한다.)
+  private Duration rebuildInterval = Duration.ofMinutes(10);
+  // limit을 지정하지 않았을 때 돌려주는 결과 수와 최대 결과 수
+  private int defaultLimit = 10;
+  private int maxLimit = 100;
+}
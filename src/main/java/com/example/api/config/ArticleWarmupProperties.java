@@ -0,0 +1,26 @@
+package com.example.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// 시작할 때 Readiness 전에 하는 Warmup 설정 (ArticleWarmupRunner)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "article.warmup")
+public class ArticleWarmupProperties {
+  private boolean enabled = false;
+  // 미리 열어둘 Connection 수 (동시에 보내는 요청 수)
+  private int connections = 8;
+  // 경로(readOne, readPage) 별로 반복할 횟수
+  private int iterations = 100;
+  // 조회에 사용할 게시글 id (없어도 된다. 404 응답도 같은 경로를 거친다.)
+  // Connection을 열 때는 articleId부터 connections 개의 id를 사용한다.
+  private long articleId = 1;
+  // readPage로 읽을 게시글 수
+  private int pageSize = 10;
+  // 이 시간이 지나면 진행 중인 요청을 중단하고, Readiness를 더 막지 않는다.
+  private Duration timeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,36 @@
+package com.example.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// 비동기 쓰기 설정 (ArticleWriteQueue, WriteBehindArticleController)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "article.write-behind")
+public class ArticleWriteBehindProperties {
+  private boolean enabled = false;
+  // 아직 Upstream에 반영되지 않은 요청의 최대 수 (넘으면 503)
+  private int capacity = 10_000;
+  // 받은 요청을 기록하는 파일 (재시작하면 반영되지 않은 요청을 다시 보낸다.)
+  private String journal = "articles-write-journal.log";
+  // 요청을 기록할 때마다 디스크에 강제로 쓴다. (끄면 빠르지만 OS가 죽으면 최근 요청을 잃을 수 있다.)
+  private boolean fsync = true;
+  // 한 번에 Upstream으로 보내는 최대 요청 수 (article.batch.max-size를 넘지 않는다.)
+  private int batchSize = 50;
+  // 첫 요청을 꺼낸 뒤 batchSize를 채우기 위해 기다리는 시간
+  private Duration linger = Duration.ofMillis(20);
+  // 동시에 Upstream으로 보내는 batch 수
+  // 같은 게시글에 대한 요청은 항상 같은 쪽에서 순서대로 보낸다.
+  private int parallelism = 4;
+  // 5xx 응답, 연결 실패 시 최대 시도 횟수와 재시도 간격 (시도할 때마다 늘어난다.)
+  private int maxAttempts = 5;
+  private Duration retryBackoff = Duration.ofMillis(200);
+  // 처리 상태를 조회할 수 있는 기간과 최대 수
+  private Duration statusTtl = Duration.ofHours(1);
+  private long statusMaximumSize = 100_000;
+  // 종료할 때 남은 요청을 보내기 위해 기다리는 시간 (남은 요청은 다음 실행에서 보낸다.)
+  private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,28 @@
+package com.example.api.config;
+
+import com.example.api.limit.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+// article.limit.enabled=true 일 때 /articles, /test 요청에 ConcurrencyLimitFilter를 적용한다.
+// (Servlet으로 동작할 때만 적용된다.)
+@ConditionalOnProperty(prefix = "article.limit", name = "enabled", havingValue = "true")
+public class ConcurrencyLimitConfig {
+  @Bean
+  public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+    ArticleLimitProperties properties,
+    MeterRegistry meterRegistry
+  ) {
+    FilterRegistrationBean<ConcurrencyLimitFilter> registration
+      = new FilterRegistrationBean<>(new ConcurrencyLimitFilter(properties, meterRegistry));
+    registration.addUrlPatterns("/articles", "/articles/*", "/test", "/test/*");
+    // 다른 Filter가 일을 하기 전에 거절한다.
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+    return registration;
+  }
+}
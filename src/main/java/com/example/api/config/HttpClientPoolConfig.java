@@ -0,0 +1,208 @@
+package com.example.api.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+@Configuration
+@RequiredArgsConstructor
+// RestTemplate, RestClient, WebClient가 공유하는 Connection Pool 설정
+// - RestTemplate, RestClient: Apache HttpClient 5의 PoolingHttpClientConnectionManager
+// - WebClient: Reactor Netty의 ConnectionProvider
+// article.upstream.transport가 h2c 계열이면 적은 수의 Connection에 요청을 다중화(Multiplexing)한다.
+// 선택된 Client가 사용하는 Pool만 만들어지도록 모두 처음 사용할 때 생성한다. (@Lazy)
+@Lazy
+public class HttpClientPoolConfig {
+  private final UpstreamProperties properties;
+  private final ArticleCodecProperties codecProperties;
+
+  // Blocking Client용 Connection Pool
+  @Bean
+  public PoolingHttpClientConnectionManager upstreamConnectionManager(MeterRegistry meterRegistry) {
+    UpstreamProperties.Pool pool = properties.getPool();
+    PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+      .setMaxConnTotal(pool.getMaxConnections())
+      .setMaxConnPerRoute(pool.getMaxConnectionsPerRoute())
+      .setDefaultConnectionConfig(ConnectionConfig.custom()
+        .setConnectTimeout(timeout(pool.getConnectTimeout()))
+        .setSocketTimeout(timeout(pool.getReadTimeout()))
+        .setTimeToLive(timeValue(pool.getMaxLifeTime()))
+        .build())
+      .build();
+    bindMetrics(connectionManager, meterRegistry);
+    return connectionManager;
+  }
+
+  @Bean
+  public CloseableHttpClient upstreamHttpClient(
+    PoolingHttpClientConnectionManager upstreamConnectionManager
+  ) {
+    UpstreamProperties.Pool pool = properties.getPool();
+    return HttpClients.custom()
+      .setConnectionManager(upstreamConnectionManager)
+      .setDefaultRequestConfig(RequestConfig.custom()
+        // Apache HttpClient는 대기 요청 수 대신 대기 시간으로 제한한다.
+        .setConnectionRequestTimeout(timeout(pool.getPendingAcquireTimeout()))
+        .setResponseTimeout(timeout(pool.getReadTimeout()))
+        // DefaultConnectionKeepAliveStrategy가 Keep-Alive 헤더가 없을 때 사용하는 값
+        .setConnectionKeepAlive(timeValue(pool.getKeepAlive()))
+        .build())
+      .setKeepAliveStrategy(keepAliveStrategy(pool.getKeepAlive()))
+      // 백그라운드 스레드가 만료 / 유휴 Connection을 정리한다.
+      .evictExpiredConnections()
+      .evictIdleConnections(timeValue(pool.getIdleTimeout()))
+      .build();
+  }
+
+  @Bean
+  public HttpComponentsClientHttpRequestFactory upstreamRequestFactory(
+    CloseableHttpClient upstreamHttpClient
+  ) {
+    return new HttpComponentsClientHttpRequestFactory(upstreamHttpClient);
+  }
+
+  // RestTemplate, RestClient가 실제로 사용할 RequestFactory
+  // Apache HttpClient 5 (Classic)는 HTTP/2를 지원하지 않으므로
+  // h2c 계열일 때는 JDK HttpClient를 사용한다.
+  // JDK HttpClient는 평문 HTTP/2를 Upgrade 방식으로만 지원하므로 h2c-prior-knowledge도 h2c와 같이 동작한다.
+  // 고른 쪽의 Client(와 Pool, 지표)만 만들어지도록 ObjectProvider로 받는다.
+  @Bean
+  @Primary
+  public ClientHttpRequestFactory upstreamClientRequestFactory(
+    ObjectProvider<HttpComponentsClientHttpRequestFactory> upstreamRequestFactory,
+    ObjectProvider<java.net.http.HttpClient> upstreamJdkHttpClient
+  ) {
+    if (properties.getTransport() == UpstreamProperties.Transport.HTTP1)
+      return upstreamRequestFactory.getObject();
+
+    JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(upstreamJdkHttpClient.getObject());
+    requestFactory.setReadTimeout(properties.getPool().getReadTimeout());
+    return requestFactory;
+  }
+
+  // h2c 계열에서 RestTemplate, RestClient가 사용하는 JDK HttpClient
+  // Context가 닫힐 때 close()로 Selector Thread와 Connection을 정리한다. (Java 21)
+  // 요청은 작업마다 만드는 Virtual Thread에서 처리하므로 Executor에는 남는 스레드가 없다.
+  @Bean(destroyMethod = "close")
+  public java.net.http.HttpClient upstreamJdkHttpClient() {
+    return java.net.http.HttpClient.newBuilder()
+      .version(java.net.http.HttpClient.Version.HTTP_2)
+      .connectTimeout(properties.getPool().getConnectTimeout())
+      .executor(Executors.newVirtualThreadPerTaskExecutor())
+      .build();
+  }
+
+  // WebClient용 Connection Pool
+  @Bean(destroyMethod = "dispose")
+  public ConnectionProvider upstreamConnectionProvider() {
+    UpstreamProperties.Pool pool = properties.getPool();
+    return ConnectionProvider.builder("article-upstream")
+      .maxConnections(pool.getMaxConnections())
+      .pendingAcquireMaxCount(pool.getMaxPendingAcquires())
+      .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+      .maxIdleTime(pool.getIdleTimeout())
+      .maxLifeTime(pool.getMaxLifeTime())
+      .evictInBackground(pool.getEvictionInterval())
+      // reactor.netty.connection.provider.* 지표를 등록한다.
+      // (active = leased, idle, pending)
+      .metrics(true)
+      .build();
+  }
+
+  @Bean
+  public ReactorClientHttpConnector upstreamClientConnector(
+    ConnectionProvider upstreamConnectionProvider
+  ) {
+    UpstreamProperties.Pool pool = properties.getPool();
+    HttpClient httpClient = HttpClient.create(upstreamConnectionProvider)
+      .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) pool.getConnectTimeout().toMillis())
+      .responseTimeout(pool.getReadTimeout())
+      .keepAlive(true)
+      .protocol(protocols(properties.getTransport()))
+      // Accept-Encoding: gzip, deflate를 보내고 압축된 응답을 풀어준다.
+      // (Apache HttpClient 5는 기본으로 동작한다.)
+      .compress(codecProperties.getCompression().isEnabled());
+    return new ReactorClientHttpConnector(httpClient);
+  }
+
+  // Apache HttpClient Pool 상태를 Gauge로 노출한다.
+  // (/actuator/metrics/article.upstream.pool.leased 등)
+  // MeterBinder Bean으로 등록하면 Pool이 항상 만들어지므로 Pool을 만들 때 등록한다.
+  private static void bindMetrics(
+    PoolingHttpClientConnectionManager upstreamConnectionManager,
+    MeterRegistry registry
+  ) {
+    Gauge.builder("article.upstream.pool.leased", upstreamConnectionManager,
+        manager -> manager.getTotalStats().getLeased())
+      .tag("pool", "apache")
+      .description("사용 중인 Connection 수")
+      .register(registry);
+    Gauge.builder("article.upstream.pool.idle", upstreamConnectionManager,
+        manager -> manager.getTotalStats().getAvailable())
+      .tag("pool", "apache")
+      .description("재사용을 기다리는 Connection 수")
+      .register(registry);
+    Gauge.builder("article.upstream.pool.pending", upstreamConnectionManager,
+        manager -> manager.getTotalStats().getPending())
+      .tag("pool", "apache")
+      .description("Connection을 기다리는 요청 수")
+      .register(registry);
+    Gauge.builder("article.upstream.pool.max", upstreamConnectionManager,
+        manager -> manager.getTotalStats().getMax())
+      .tag("pool", "apache")
+      .register(registry);
+  }
+
+  private static HttpProtocol[] protocols(UpstreamProperties.Transport transport) {
+    return switch (transport) {
+      case HTTP1 -> new HttpProtocol[]{HttpProtocol.HTTP11};
+      // 둘 다 지정하면 Upgrade 요청으로 시작한다.
+      case H2C -> new HttpProtocol[]{HttpProtocol.HTTP11, HttpProtocol.H2C};
+      case H2C_PRIOR_KNOWLEDGE -> new HttpProtocol[]{HttpProtocol.H2C};
+    };
+  }
+
+  // 서버가 Keep-Alive: timeout=N 헤더를 주면 그 시간만큼, 주지 않으면 설정한 시간만큼 재사용한다.
+  // (음수는 Apache HttpClient에서 무기한이므로 설정한 시간을 쓴다.)
+  private static ConnectionKeepAliveStrategy keepAliveStrategy(Duration keepAlive) {
+    TimeValue fallback = timeValue(keepAlive);
+    return (response, context) -> {
+      TimeValue duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+      return duration == null || duration.getDuration() < 0 ? fallback : duration;
+    };
+  }
+
+  private static Timeout timeout(Duration duration) {
+    return Timeout.ofMilliseconds(duration.toMillis());
+  }
+
+  private static TimeValue timeValue(Duration duration) {
+    return TimeValue.ofMilliseconds(duration.toMillis());
+  }
+}
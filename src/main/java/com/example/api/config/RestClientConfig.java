@@ -2,21 +2,58 @@ package com.example.api.config;
 
 
 
+import com.example.api.codec.ArticleCodecs;
+import com.example.api.codec.RequestCompression;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.server.ResponseStatusException;
 
 @Configuration
 public class RestClientConfig {
   @Bean
+  @Lazy
   // RestClient: Builder를 활용해 전체 서비스에서 사용할
   // 기본 설정을 갖춘 WebClient Bean으로 등록 가능
-  public RestClient defaultRestClient() {
+  public RestClient defaultRestClient(
+    // RestTemplate과 같은 Connection Pool을 공유한다.
+    ClientHttpRequestFactory upstreamClientRequestFactory,
+    UpstreamProperties properties,
+    UpstreamMetrics upstreamMetrics,
+    UpstreamEndpointPool endpointPool,
+    UpstreamRevalidationCache revalidationCache,
+    ArticleCodecs articleCodecs,
+    ArticleCodecProperties codecProperties,
+    ObservationRegistry observationRegistry
+  ) {
 //    RestClient restClient = RestClient.create();
     return RestClient.builder()
-      .baseUrl("http://localhost:8081")
+      .baseUrl(properties.getBaseUrl())
+      .requestFactory(upstreamClientRequestFactory)
+      // ArticleDto는 미리 만든 ObjectReader / ObjectWriter로, Body는 article.codec.upstream-format으로
+      .messageConverters(converters -> converters.addAll(0, articleCodecs.upstreamConverters()))
+      // 조건부 GET: 304면 보관한 Body를 사용한다.
+      // 큰 요청 Body는 gzip 또는 deflate로 압축한다. (지표에 압축된 크기가 기록되도록 먼저 둔다.)
+      .requestInterceptors(interceptors -> {
+        if (revalidationCache.isEnabled())
+          interceptors.add(revalidationCache.interceptor("rest-client"));
+        if (codecProperties.getCompression().isEnabled())
+          interceptors.add(RequestCompression.interceptor(codecProperties.getCompression().getEncoding(),
+            codecProperties.getCompression().getThreshold().toBytes()));
+      })
+      // 실제로 나간 요청의 수, 지연 시간, 크기를 기록한다.
+      .requestInterceptor(upstreamMetrics.interceptor("rest-client"))
+      // article.upstream.endpoints가 여러 개면 요청마다 서버를 골라 보낸다.
+      .requestInterceptors(interceptors -> {
+        if (endpointPool.isBalancing())
+          interceptors.add(endpointPool.interceptor());
+      })
+      // http.client.requests 지표 (RestTemplateBuilder는 자동으로 설정된다.)
+      .observationRegistry(observationRegistry)
       .defaultHeader("test0", "foo")
       .defaultRequest(request ->
         request.header("test1", "bar"))
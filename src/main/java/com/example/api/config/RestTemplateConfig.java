@@ -1,28 +1,66 @@
 package com.example.api.config;
 
+import com.example.api.codec.ArticleCodecs;
+import com.example.api.codec.RequestCompression;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Configuration
 // 서비스에서 RestTemplate가 필요한 시점에서
 // defaultRestTemplate 메서드의 반환 객체인 RestTemplate을 자동으로 주입이 되게끔 만들어준다.
 public class RestTemplateConfig {
   @Bean
+  @Lazy
   // RestTemplateBuilder를 활용해 전체 서비스에서 사용할
   // 기본 설정을 갖춘 RestTemplate을 Bean으로 등록 가능
   public RestTemplate defaultRestTemplate(
     // Bean 객체로 주입을 받을 수 있는 RestTemplateBuilder
-    RestTemplateBuilder templateBuilder
+    RestTemplateBuilder templateBuilder,
+    // HttpClientPoolConfig에서 만든 Connection Pool 기반 RequestFactory (h2c 계열이면 JDK HttpClient)
+    ClientHttpRequestFactory upstreamClientRequestFactory,
+    UpstreamProperties properties,
+    UpstreamMetrics upstreamMetrics,
+    UpstreamEndpointPool endpointPool,
+    UpstreamRevalidationCache revalidationCache,
+    ArticleCodecs articleCodecs,
+    ArticleCodecProperties codecProperties
   ) {
     // 그냥 새로 생성해서 사용할 수도 있음
     // RestTemplate restTemplate = new RestTemplate();
 
     // restTemplate을 templateBuilder로 초기화
-    // 이렇게 함으로 http://localhost:8081로 URI를 통일할 수 있다.
+    // 이렇게 함으로 article.upstream.base-url로 URI를 통일할 수 있다.
+    // 순서대로 실행된다.
+    List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
+    // 이전 GET 응답의 ETag, Last-Modified로 조건부 요청을 보내고 304면 보관한 Body를 사용한다.
+    if (revalidationCache.isEnabled())
+      interceptors.add(revalidationCache.interceptor("rest-template"));
+    // 큰 요청 Body는 gzip 또는 deflate로 압축한다. (지표에 압축된 크기가 기록되도록 먼저 둔다.)
+    if (codecProperties.getCompression().isEnabled())
+      interceptors.add(RequestCompression.interceptor(codecProperties.getCompression().getEncoding(),
+        codecProperties.getCompression().getThreshold().toBytes()));
+    // 실제로 나간 요청의 수, 지연 시간, 크기를 기록한다.
+    interceptors.add(upstreamMetrics.interceptor("rest-template"));
+    // article.upstream.endpoints가 여러 개면 요청마다 서버를 골라 보낸다.
+    if (endpointPool.isBalancing())
+      interceptors.add(endpointPool.interceptor());
+
     return templateBuilder
-      .rootUri("http://localhost:8081")
+      .rootUri(properties.getBaseUrl())
+      // ArticleDto는 미리 만든 ObjectReader / ObjectWriter로, Body는 article.codec.upstream-format으로
+      .additionalCustomizers(restTemplate ->
+        restTemplate.getMessageConverters().addAll(0, articleCodecs.upstreamConverters()))
+      // 요청마다 Connection을 새로 맺지 않고 Pool에서 재사용한다.
+      .requestFactory(() -> upstreamClientRequestFactory)
+      .additionalInterceptors(interceptors)
       .build();
   }
 }
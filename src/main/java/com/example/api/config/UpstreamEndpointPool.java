@@ -0,0 +1,213 @@
+package com.example.api.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.SignalType;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// article.upstream.endpoints에 등록된 Article 서버들에 요청을 나눠 보낸다. (Client-side Load Balancing)
+// - 선택: 진행 중인 요청 수가 적은 쪽 (P2C 또는 LEAST_OUTSTANDING)
+// - Passive Health Check: 연속으로 실패한 서버는 일정 시간 제외한다. (Outlier Ejection)
+// RestTemplate, RestClient, WebClient가 같은 Pool을 공유한다.
+// 지표: article.upstream.endpoint.outstanding, .requests{outcome}, .ejected, .ejections
+@Slf4j
+@Component
+public class UpstreamEndpointPool {
+  public static final String ENDPOINT_REQUESTS = "article.upstream.endpoint.requests";
+  // 제외 시간이 늘어나는 상한 (ejectionTime의 배수)
+  private static final int MAX_EJECTION_MULTIPLIER = 10;
+
+  private final UpstreamProperties.Balancer balancer;
+  private final List<Endpoint> endpoints;
+  private final MeterRegistry registry;
+
+  public UpstreamEndpointPool(UpstreamProperties properties, MeterRegistry registry) {
+    this.balancer = properties.getBalancer();
+    this.registry = registry;
+    List<String> urls = properties.getEndpoints().isEmpty()
+      ? List.of(properties.getBaseUrl())
+      : properties.getEndpoints();
+    this.endpoints = urls.stream()
+      .map(url -> new Endpoint(URI.create(url)))
+      .toList();
+    for (Endpoint endpoint : endpoints) {
+      Tags tags = Tags.of("endpoint", endpoint.authority());
+      Gauge.builder("article.upstream.endpoint.outstanding", endpoint.outstanding, AtomicInteger::get)
+        .tags(tags)
+        .register(registry);
+      Gauge.builder("article.upstream.endpoint.ejected", endpoint, e -> e.isEjected(System.nanoTime()) ? 1 : 0)
+        .tags(tags)
+        .register(registry);
+    }
+    log.info("upstream endpoints: {} ({})", urls, balancer.getStrategy());
+  }
+
+  // 서버가 두 대 이상일 때만 요청 주소를 바꾼다.
+  public boolean isBalancing() {
+    return endpoints.size() > 1;
+  }
+
+  // RestTemplate, RestClient에 등록하는 Interceptor
+  public ClientHttpRequestInterceptor interceptor() {
+    return (request, body, execution) -> {
+      Endpoint endpoint = choose();
+      URI uri = endpoint.rewrite(request.getURI());
+      HttpRequest routed = new HttpRequestWrapper(request) {
+        @Override
+        public URI getURI() {
+          return uri;
+        }
+      };
+      endpoint.start();
+      boolean failed = true;
+      try {
+        ClientHttpResponse response = execution.execute(routed, body);
+        failed = response.getStatusCode().is5xxServerError();
+        return response;
+      } finally {
+        endpoint.finish(failed);
+      }
+    };
+  }
+
+  // WebClient에 등록하는 Filter
+  public ExchangeFilterFunction filter() {
+    return (request, next) -> {
+      Endpoint endpoint = choose();
+      ClientRequest routed = ClientRequest.from(request)
+        .url(endpoint.rewrite(request.url()))
+        .build();
+      endpoint.start();
+      AtomicBoolean failed = new AtomicBoolean();
+      return next.exchange(routed)
+        .doOnNext(response -> failed.set(response.statusCode().is5xxServerError()))
+        .doOnError(e -> failed.set(true))
+        .doFinally(signal -> {
+          // 취소된 요청은 서버 상태를 알 수 없으므로 성공, 실패로 세지 않는다.
+          if (signal == SignalType.CANCEL)
+            endpoint.cancel();
+          else
+            endpoint.finish(failed.get());
+        });
+    };
+  }
+
+  Endpoint choose() {
+    long now = System.nanoTime();
+    List<Endpoint> healthy = endpoints.stream()
+      .filter(endpoint -> !endpoint.isEjected(now))
+      .toList();
+    // 모두 제외되었다면 전체에서 고른다. (Panic Mode)
+    List<Endpoint> candidates = healthy.isEmpty() ? endpoints : healthy;
+    if (candidates.size() == 1)
+      return candidates.get(0);
+
+    return switch (balancer.getStrategy()) {
+      case P2C -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first)
+          second++;
+        Endpoint a = candidates.get(first);
+        Endpoint b = candidates.get(second);
+        yield a.outstanding.get() <= b.outstanding.get() ? a : b;
+      }
+      case LEAST_OUTSTANDING -> {
+        // 같은 수라면 앞쪽 서버로 몰리지 않도록 임의의 위치부터 찾는다.
+        int offset = ThreadLocalRandom.current().nextInt(candidates.size());
+        Endpoint best = null;
+        for (int i = 0; i < candidates.size(); i++) {
+          Endpoint candidate = candidates.get((offset + i) % candidates.size());
+          if (best == null || candidate.outstanding.get() < best.outstanding.get())
+            best = candidate;
+        }
+        yield best;
+      }
+    };
+  }
+
+  private boolean canEject(long now) {
+    long ejected = endpoints.stream()
+      .filter(endpoint -> endpoint.isEjected(now))
+      .count();
+    return (ejected + 1) * 100.0 / endpoints.size() <= balancer.getMaxEjectionPercent();
+  }
+
+  class Endpoint {
+    private final URI base;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicInteger ejections = new AtomicInteger();
+    private volatile long ejectedUntil;
+
+    Endpoint(URI base) {
+      this.base = base;
+    }
+
+    String authority() {
+      return base.getAuthority();
+    }
+
+    boolean isEjected(long now) {
+      return ejectedUntil - now > 0;
+    }
+
+    URI rewrite(URI uri) {
+      return UriComponentsBuilder.fromUri(uri)
+        .scheme(base.getScheme())
+        .host(base.getHost())
+        .port(base.getPort())
+        .build(true)
+        .toUri();
+    }
+
+    void start() {
+      outstanding.incrementAndGet();
+    }
+
+    void cancel() {
+      outstanding.decrementAndGet();
+    }
+
+    void finish(boolean failed) {
+      outstanding.decrementAndGet();
+      registry.counter(ENDPOINT_REQUESTS,
+          "endpoint", authority(),
+          "outcome", failed ? "failure" : "success")
+        .increment();
+      if (!failed) {
+        consecutiveFailures.set(0);
+        // 제외되었다가 돌아와서 성공하면 다음 제외 시간을 원래대로 돌린다.
+        if (!isEjected(System.nanoTime()))
+          ejections.set(0);
+        return;
+      }
+      if (consecutiveFailures.incrementAndGet() < balancer.getConsecutiveFailures())
+        return;
+      long now = System.nanoTime();
+      if (isEjected(now) || !canEject(now))
+        return;
+      consecutiveFailures.set(0);
+      int multiplier = Math.min(MAX_EJECTION_MULTIPLIER, ejections.incrementAndGet());
+      ejectedUntil = now + balancer.getEjectionTime().toNanos() * multiplier;
+      registry.counter("article.upstream.endpoint.ejections", "endpoint", authority()).increment();
+      log.warn("upstream endpoint {} ejected for {}", authority(), balancer.getEjectionTime().multipliedBy(multiplier));
+    }
+  }
+}
@@ -0,0 +1,257 @@
+package com.example.api.config;
+
+import io.micrometer.core.instrument.*;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+// Upstream으로 실제로 나간 HTTP 요청을 Client, 작업 별로 기록한다.
+// - article.upstream.calls: 요청 수
+// - article.upstream.requests: 응답 Header까지의 지연 시간 (status 포함, Histogram)
+// - article.upstream.request.size / response.size: Body 크기 (byte)
+//   Content-Length Header가 아니라 실제로 쓰고 읽은 Body byte를 센다. (chunked 응답도 기록된다.)
+//   응답은 HTTP Client가 압축을 푼 뒤의 크기이고, Body를 끝까지 읽었거나 닫았을 때 기록한다.
+// - article.upstream.active: 진행 중인 요청 수
+@Component
+@RequiredArgsConstructor
+public class UpstreamMetrics {
+  public static final String CALLS = "article.upstream.calls";
+  public static final String REQUESTS = "article.upstream.requests";
+  public static final String REQUEST_SIZE = "article.upstream.request.size";
+  public static final String RESPONSE_SIZE = "article.upstream.response.size";
+  public static final String ACTIVE = "article.upstream.active";
+  private static final Pattern ARTICLE_ID = Pattern.compile(".*/articles/\\d+/?");
+
+  private final MeterRegistry registry;
+  private final ConcurrentMap<String, AtomicInteger> active = new ConcurrentHashMap<>();
+
+  // RestTemplate, RestClient에 등록하는 Interceptor
+  public ClientHttpRequestInterceptor interceptor(String client) {
+    return (request, body, execution) -> {
+      Tags tags = tags(client, request.getMethod(), request.getURI());
+      registry.counter(CALLS, tags).increment();
+      registry.summary(REQUEST_SIZE, tags).record(body.length);
+      AtomicInteger inFlight = active(client);
+      inFlight.incrementAndGet();
+      Timer.Sample sample = Timer.start(registry);
+      String status = "IO_ERROR";
+      try {
+        ClientHttpResponse response = execution.execute(request, body);
+        status = String.valueOf(response.getStatusCode().value());
+        return new CountingResponse(response, registry.summary(RESPONSE_SIZE, tags));
+      } finally {
+        inFlight.decrementAndGet();
+        sample.stop(timer(tags, status));
+      }
+    };
+  }
+
+  // WebClient에 등록하는 Filter
+  // (구독되어 요청이 실제로 나갈 때 실행된다.)
+  public ExchangeFilterFunction filter(String client) {
+    return (request, next) -> {
+      Tags tags = tags(client, request.method(), request.url());
+      registry.counter(CALLS, tags).increment();
+      AtomicInteger inFlight = active(client);
+      inFlight.incrementAndGet();
+      Timer.Sample sample = Timer.start(registry);
+      AtomicReference<String> status = new AtomicReference<>("CANCELLED");
+      return next.exchange(countingRequest(request, registry.summary(REQUEST_SIZE, tags)))
+        .doOnNext(response -> status.set(String.valueOf(response.statusCode().value())))
+        .map(response -> countingResponse(response, registry.summary(RESPONSE_SIZE, tags)))
+        .doOnError(e -> status.set("IO_ERROR"))
+        .doFinally(signal -> {
+          inFlight.decrementAndGet();
+          sample.stop(timer(tags, status.get()));
+        });
+    };
+  }
+
+  private Timer timer(Tags tags, String status) {
+    return Timer.builder(REQUESTS)
+      .tags(tags)
+      .tag("status", status)
+      .publishPercentileHistogram()
+      .register(registry);
+  }
+
+  // Encoder가 쓰는 DataBuffer를 세고, Body를 다 쓰면 기록한다. (Body가 없으면 0)
+  private static ClientRequest countingRequest(ClientRequest request, DistributionSummary size) {
+    BodyInserter<?, ? super ClientHttpRequest> inserter = request.body();
+    return ClientRequest.from(request)
+      .body((outputMessage, context) -> inserter.insert(
+        new ClientHttpRequestDecorator(outputMessage) {
+          @Override
+          public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            AtomicLong bytes = new AtomicLong();
+            return super.writeWith(Flux.from(body).doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount())))
+              .doOnSuccess(done -> size.record(bytes.get()));
+          }
+
+          @Override
+          public Mono<Void> setComplete() {
+            return super.setComplete().doOnSuccess(done -> size.record(0));
+          }
+        }, context))
+      .build();
+  }
+
+  // 응답 Body의 DataBuffer를 세고, 끝까지 읽으면 기록한다. (중간에 취소되면 기록하지 않는다.)
+  private static ClientResponse countingResponse(ClientResponse response, DistributionSummary size) {
+    AtomicLong bytes = new AtomicLong();
+    return response.mutate()
+      .body(body -> body
+        .doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()))
+        .doFinally(signal -> {
+          if (signal == SignalType.ON_COMPLETE)
+            size.record(bytes.get());
+        }))
+      .build();
+  }
+
+  private AtomicInteger active(String client) {
+    return active.computeIfAbsent(client, key ->
+      registry.gauge(ACTIVE, Tags.of("client", key), new AtomicInteger()));
+  }
+
+  private static Tags tags(String client, HttpMethod method, URI uri) {
+    return Tags.of("client", client, "operation", operation(method, uri.getPath()));
+  }
+
+  // HTTP Method와 경로로 ArticleClient의 어떤 작업인지 판단한다.
+  static String operation(HttpMethod method, String path) {
+    if (path == null)
+      return "other";
+    if (path.endsWith("/articles") || path.endsWith("/articles/")) {
+      if (HttpMethod.POST.equals(method)) return "create";
+      if (HttpMethod.GET.equals(method)) return "readAll";
+    }
+    if (path.endsWith("/articles/paged") && HttpMethod.GET.equals(method))
+      return "readPage";
+    if (ARTICLE_ID.matcher(path).matches()) {
+      if (HttpMethod.GET.equals(method)) return "readOne";
+      if (HttpMethod.PUT.equals(method)) return "update";
+      if (HttpMethod.DELETE.equals(method)) return "delete";
+    }
+    return "other";
+  }
+
+  // getBody()로 읽은 byte를 세고, 끝까지 읽었거나 닫을 때 한 번 기록한다.
+  private static class CountingResponse implements ClientHttpResponse {
+    private final ClientHttpResponse delegate;
+    private final DistributionSummary size;
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicBoolean recorded = new AtomicBoolean();
+    private InputStream body;
+
+    CountingResponse(ClientHttpResponse delegate, DistributionSummary size) {
+      this.delegate = delegate;
+      this.size = size;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      if (body == null)
+        body = new CountingInputStream(delegate.getBody());
+      return body;
+    }
+
+    @Override
+    public void close() {
+      try {
+        delegate.close();
+      } finally {
+        record();
+      }
+    }
+
+    private void record() {
+      if (recorded.compareAndSet(false, true))
+        size.record(bytes.get());
+    }
+
+    private class CountingInputStream extends FilterInputStream {
+      CountingInputStream(InputStream in) {
+        super(in);
+      }
+
+      @Override
+      public int read() throws IOException {
+        int b = super.read();
+        if (b < 0)
+          record();
+        else
+          bytes.incrementAndGet();
+        return b;
+      }
+
+      @Override
+      public int read(byte[] buffer, int offset, int length) throws IOException {
+        int read = super.read(buffer, offset, length);
+        if (read < 0)
+          record();
+        else
+          bytes.addAndGet(read);
+        return read;
+      }
+
+      @Override
+      public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        bytes.addAndGet(skipped);
+        return skipped;
+      }
+
+      @Override
+      public void close() throws IOException {
+        try {
+          super.close();
+        } finally {
+          record();
+        }
+      }
+    }
+  }
+}
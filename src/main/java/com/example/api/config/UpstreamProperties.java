@@ -0,0 +1,78 @@
+package com.example.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// application.properties의 article.upstream.* 값이 바인딩 된다.
+// RestTemplate, RestClient, WebClient가 같은 설정을 공유한다.
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "article.upstream")
+public class UpstreamProperties {
+  // Article 서버 주소
+  private String baseUrl = "http://localhost:8081";
+  // 같은 Article 서버 여러 대의 주소 (비어 있으면 baseUrl 한 대만 사용한다.)
+  // 요청마다 UpstreamEndpointPool이 이 중 하나를 골라 baseUrl의 Host를 바꿔서 보낸다.
+  private List<String> endpoints = new ArrayList<>();
+  // Upstream과 통신할 HTTP 버전
+  private Transport transport = Transport.HTTP1;
+  private final Pool pool = new Pool();
+  private final Balancer balancer = new Balancer();
+
+  @Getter
+  @Setter
+  public static class Pool {
+    // Pool 전체에서 유지할 수 있는 최대 Connection 수
+    private int maxConnections = 200;
+    // 하나의 Host(Route)에 대해 유지할 수 있는 최대 Connection 수
+    private int maxConnectionsPerRoute = 200;
+    // Connection을 기다릴 수 있는 최대 요청 수 (WebClient)
+    private int maxPendingAcquires = 1000;
+    // Connection을 얻기 위해 기다리는 최대 시간
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+    // TCP 연결 수립 제한 시간
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    // 응답을 기다리는 제한 시간
+    private Duration readTimeout = Duration.ofSeconds(10);
+    // 서버가 Keep-Alive 시간을 알려주지 않을 때 Connection을 재사용할 시간
+    private Duration keepAlive = Duration.ofSeconds(60);
+    // 사용되지 않는 Connection을 닫기까지의 시간
+    private Duration idleTimeout = Duration.ofSeconds(30);
+    // Connection의 최대 수명
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+    // 유휴 / 만료 Connection을 정리하는 주기
+    private Duration evictionInterval = Duration.ofSeconds(10);
+  }
+
+  @Getter
+  @Setter
+  public static class Balancer {
+    // P2C: 임의로 고른 두 대 중 진행 중인 요청이 적은 쪽 (Power of Two Choices)
+    // LEAST_OUTSTANDING: 진행 중인 요청이 가장 적은 쪽
+    private Strategy strategy = Strategy.P2C;
+    // 연속으로 이만큼 실패(5xx, I/O 오류)하면 잠시 제외한다. (Outlier Ejection)
+    private int consecutiveFailures = 5;
+    // 제외하는 시간, 여러 번 제외될수록 배수로 늘어난다.
+    private Duration ejectionTime = Duration.ofSeconds(30);
+    // 동시에 제외할 수 있는 최대 비율
+    private double maxEjectionPercent = 50;
+  }
+
+  public enum Strategy {
+    P2C, LEAST_OUTSTANDING
+  }
+
+  public enum Transport {
+    // HTTP/1.1, Connection 하나에 요청 하나씩 (Pool)
+    HTTP1,
+    // HTTP/1.1로 연결한 뒤 Upgrade: h2c로 HTTP/2로 바꾼다.
+    H2C,
+    // 처음부터 HTTP/2로 통신한다. (서버가 h2c를 지원한다는 것을 알고 있을 때)
+    H2C_PRIOR_KNOWLEDGE
+  }
+}
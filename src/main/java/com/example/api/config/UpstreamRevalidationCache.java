@@ -0,0 +1,233 @@
+package com.example.api.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+
+// Upstream GET 응답을 검증자(ETag, Last-Modified)와 함께 URI 별로 보관하고,
+// 같은 URI를 다시 요청할 때 If-None-Match / If-Modified-Since를 붙인다.
+// Upstream이 304로 답하면 보관한 Body로 200 응답을 만들어 돌려주므로 ArticleClient 구현체는 바뀌지 않는다.
+// - 매번 Upstream에 확인하므로 (Revalidation) 바뀐 데이터를 놓치지 않는다.
+// - 검증자가 없거나 maximumEntrySize보다 큰 응답은 보관하지 않는다.
+// - WebClient는 Content-Length를 알 수 있는 응답만 보관한다. (크기를 모르는 Streaming 응답은 모으지 않는다.)
+// 지표: article.upstream.revalidations{client,result}
+@Component
+public class UpstreamRevalidationCache {
+  public static final String REVALIDATIONS = "article.upstream.revalidations";
+
+  private final boolean enabled;
+  private final long maximumEntrySize;
+  private final Cache<String, Validated> responses;
+  private final MeterRegistry registry;
+
+  public UpstreamRevalidationCache(ArticleEtagProperties properties, MeterRegistry registry) {
+    ArticleEtagProperties.Upstream upstream = properties.getUpstream();
+    this.enabled = upstream.isEnabled();
+    this.maximumEntrySize = upstream.getMaximumEntrySize().toBytes();
+    this.responses = Caffeine.newBuilder()
+      .maximumWeight(upstream.getMaximumSize().toBytes())
+      .weigher((String key, Validated validated) -> key.length() + validated.body().length)
+      .build();
+    this.registry = registry;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  // RestTemplate, RestClient에 등록하는 Interceptor
+  public ClientHttpRequestInterceptor interceptor(String client) {
+    return (request, body, execution) -> {
+      if (!HttpMethod.GET.equals(request.getMethod()))
+        return execution.execute(request, body);
+
+      String key = key(request.getURI(), request.getHeaders());
+      Validated cached = responses.getIfPresent(key);
+      if (cached != null)
+        cached.addConditions(request.getHeaders());
+      ClientHttpResponse response = execution.execute(request, body);
+      HttpStatusCode status = response.getStatusCode();
+
+      if (cached != null && status.value() == HttpStatus.NOT_MODIFIED.value()) {
+        record(client, "not-modified");
+        HttpHeaders headers = cached.replayHeaders(response.getHeaders());
+        response.close();
+        return new ReplayedResponse(HttpStatus.OK, headers, new ByteArrayInputStream(cached.body()), () -> {});
+      }
+      record(client, cached == null ? "unconditional" : "modified");
+      if (status.value() != HttpStatus.OK.value())
+        return response;
+      if (!hasValidator(response.getHeaders()) || response.getHeaders().getContentLength() > maximumEntrySize) {
+        responses.invalidate(key);
+        return response;
+      }
+
+      // 최대 maximumEntrySize + 1 byte만 읽어보고, 넘으면 읽은 부분과 나머지를 이어서 돌려준다.
+      InputStream in = response.getBody();
+      byte[] read = in.readNBytes((int) Math.min(Integer.MAX_VALUE - 8, maximumEntrySize + 1));
+      InputStream replay;
+      if (read.length > maximumEntrySize) {
+        responses.invalidate(key);
+        replay = new SequenceInputStream(new ByteArrayInputStream(read), in);
+      } else {
+        responses.put(key, Validated.of(response.getHeaders(), read));
+        replay = new ByteArrayInputStream(read);
+      }
+      return new ReplayedResponse(status, response.getHeaders(), replay, response::close);
+    };
+  }
+
+  // WebClient에 등록하는 Filter
+  public ExchangeFilterFunction filter(String client) {
+    return (request, next) -> {
+      if (!HttpMethod.GET.equals(request.method()))
+        return next.exchange(request);
+
+      String key = key(request.url(), request.headers());
+      Validated cached = responses.getIfPresent(key);
+      ClientRequest conditional = cached == null
+        ? request
+        : ClientRequest.from(request).headers(cached::addConditions).build();
+      return next.exchange(conditional).map(response -> {
+        if (cached != null && response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+          record(client, "not-modified");
+          HttpHeaders headers = cached.replayHeaders(response.headers().asHttpHeaders());
+          return response.mutate()
+            .statusCode(HttpStatus.OK)
+            .headers(replayed -> {
+              replayed.clear();
+              replayed.putAll(headers);
+            })
+            // 304의 (빈) Body를 비우고 보관한 Body를 내보낸다.
+            .body(body -> body.doOnNext(DataBufferUtils::release)
+              .thenMany(Flux.defer(() -> Flux.just(wrap(cached.body())))))
+            .build();
+        }
+        record(client, cached == null ? "unconditional" : "modified");
+        if (response.statusCode().value() != HttpStatus.OK.value())
+          return response;
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        long length = headers.getContentLength();
+        if (!hasValidator(headers) || length < 0 || length > maximumEntrySize) {
+          responses.invalidate(key);
+          return response;
+        }
+        // Body를 읽는 쪽이 구독할 때 모아서 보관한다.
+        return response.mutate()
+          .body(body -> DataBufferUtils.join(body)
+            .map(joined -> {
+              byte[] bytes = new byte[joined.readableByteCount()];
+              joined.read(bytes);
+              DataBufferUtils.release(joined);
+              responses.put(key, Validated.of(headers, bytes));
+              return wrap(bytes);
+            })
+            .flux())
+          .build();
+      });
+    };
+  }
+
+  private void record(String client, String result) {
+    registry.counter(REVALIDATIONS, "client", client, "result", result).increment();
+  }
+
+  // 같은 URI라도 Accept에 따라 다른 형식(JSON, Smile, CBOR)으로 올 수 있다.
+  private static String key(URI uri, HttpHeaders headers) {
+    return uri + " " + String.join(",", headers.getOrEmpty(HttpHeaders.ACCEPT));
+  }
+
+  private static boolean hasValidator(HttpHeaders headers) {
+    return headers.getETag() != null || headers.getFirst(HttpHeaders.LAST_MODIFIED) != null;
+  }
+
+  private static DataBuffer wrap(byte[] bytes) {
+    return DefaultDataBufferFactory.sharedInstance.wrap(bytes);
+  }
+
+  private record Validated(String etag, String lastModified, String contentType, byte[] body) {
+    static Validated of(HttpHeaders headers, byte[] body) {
+      return new Validated(
+        headers.getETag(),
+        headers.getFirst(HttpHeaders.LAST_MODIFIED),
+        headers.getFirst(HttpHeaders.CONTENT_TYPE),
+        body);
+    }
+
+    void addConditions(HttpHeaders headers) {
+      if (etag != null)
+        headers.setIfNoneMatch(etag);
+      if (lastModified != null)
+        headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+    }
+
+    // 304 응답 헤더에 보관한 Body의 형식과 길이를 더한다.
+    HttpHeaders replayHeaders(HttpHeaders notModified) {
+      HttpHeaders headers = new HttpHeaders();
+      headers.putAll(notModified);
+      headers.remove(HttpHeaders.CONTENT_ENCODING);
+      if (contentType != null)
+        headers.set(HttpHeaders.CONTENT_TYPE, contentType);
+      headers.setContentLength(body.length);
+      return headers;
+    }
+  }
+
+  private record ReplayedResponse(
+    HttpStatusCode statusCode,
+    HttpHeaders headers,
+    InputStream body,
+    Runnable onClose
+  ) implements ClientHttpResponse {
+    @Override
+    public HttpStatusCode getStatusCode() {
+      return statusCode;
+    }
+
+    @Override
+    public String getStatusText() {
+      return statusCode instanceof HttpStatus status ? status.getReasonPhrase() : "";
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return headers;
+    }
+
+    @Override
+    public InputStream getBody() {
+      return body;
+    }
+
+    @Override
+    public void close() {
+      try {
+        body.close();
+      } catch (IOException ignored) {
+        // 닫는 중의 오류는 응답에 영향이 없다.
+      }
+      onClose.run();
+    }
+  }
+}
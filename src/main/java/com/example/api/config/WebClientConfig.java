@@ -1,24 +1,64 @@
 package com.example.api.config;
 
+import com.example.api.codec.ArticleCodecs;
+import com.example.api.codec.RequestCompression;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.server.ResponseStatusException;
 
 @Configuration
 public class WebClientConfig {
   @Bean
+  @Lazy
   // WebClient: Builder를 활용해 전체 서비스에서 사용할
   // 기본 설정을 갖춘 WebClient Bean으로 등록 가능
-  public WebClient defaultWebClient() {
+  public WebClient defaultWebClient(
+    // Reactor Netty ConnectionProvider 기반 Connector
+    ReactorClientHttpConnector upstreamClientConnector,
+    UpstreamProperties properties,
+    UpstreamMetrics upstreamMetrics,
+    UpstreamEndpointPool endpointPool,
+    UpstreamRevalidationCache revalidationCache,
+    ArticleCodecs articleCodecs,
+    ArticleCodecProperties codecProperties,
+    ObservationRegistry observationRegistry
+  ) {
     // 그냥 새로 생성해서 사용할 수도 있음
 //   WebClient webClient = WebClient.create();
 
     // 여러 설정을 포함해서 Builder 형태로 만들고 싶다면?
     // RestTemplate에 비해 선언형 (함수형) 구조를 가진다.
     return WebClient.builder()
-      .baseUrl("http://localhost:8081")
+      .baseUrl(properties.getBaseUrl())
+      .clientConnector(upstreamClientConnector)
+      // Smile, CBOR도 읽고 쓸 수 있게 한다.
+      .codecs(articleCodecs::registerCodecs)
+      .filters(filters -> {
+        // 조건부 GET: 304면 보관한 Body를 사용한다.
+        if (revalidationCache.isEnabled())
+          filters.add(revalidationCache.filter("web-client"));
+        // 요청 Body 형식을 article.codec.upstream-format으로 정한다.
+        if (!articleCodecs.isUpstreamJson())
+          filters.add(articleCodecs.upstreamFormatFilter());
+        // 큰 요청 Body는 gzip 또는 deflate로 압축한다.
+        if (codecProperties.getCompression().isEnabled())
+          filters.add(RequestCompression.filter(codecProperties.getCompression().getEncoding(),
+            codecProperties.getCompression().getThreshold().toBytes()));
+      })
+      // 실제로 나간 요청의 수, 지연 시간, 크기를 기록한다.
+      .filter(upstreamMetrics.filter("web-client"))
+      // article.upstream.endpoints가 여러 개면 요청마다 서버를 골라 보낸다.
+      .filters(filters -> {
+        if (endpointPool.isBalancing())
+          filters.add(endpointPool.filter());
+      })
+      // http.client.requests 지표
+      .observationRegistry(observationRegistry)
       // 토큰 기반 인증을 사용하는 API를 사용한다면?
       .defaultHeader("test", "foo")
       // 요청이 보내지기 전에 요청에다가 추가적인 헤더들을 지정해서 함수를 넣어줄 수 있다.
@@ -0,0 +1,24 @@
+package com.example.api.dto;
+
+import lombok.*;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+// readMany, createAll의 항목 하나의 결과
+// 성공하면 article이, 실패하면 status와 error가 채워진다.
+public class ArticleBatchResultDto {
+  private Long id;
+  private ArticleDto article;
+  private int status;
+  private String error;
+
+  public static ArticleBatchResultDto success(Long id, ArticleDto article) {
+    return new ArticleBatchResultDto(id, article, 200, null);
+  }
+
+  public static ArticleBatchResultDto failure(Long id, int status, String error) {
+    return new ArticleBatchResultDto(id, null, status, error);
+  }
+}
@@ -0,0 +1,20 @@
+package com.example.api.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+// /articles/paged 의 응답 (Spring Data Page 중 필요한 값만)
+public class ArticlePageDto {
+  private List<ArticleDto> content;
+  private int number;
+  private int size;
+  private long totalElements;
+  private int totalPages;
+  private boolean first;
+  private boolean last;
+}
@@ -0,0 +1,13 @@
+package com.example.api.dto;
+
+import lombok.*;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+// GET /articles/search 결과 하나 (점수가 높은 순서로 돌려준다.)
+public class ArticleSearchHitDto {
+  private ArticleDto article;
+  private float score;
+}
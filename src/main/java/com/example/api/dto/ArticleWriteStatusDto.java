@@ -0,0 +1,29 @@
+package com.example.api.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+// 비동기 쓰기 요청(POST /articles/async 등)의 처리 상태
+// 실패하면 status와 error가 채워진다.
+public class ArticleWriteStatusDto {
+  private String trackingId;
+  // create, update, delete
+  private String operation;
+  private State state;
+  // create는 Upstream에 반영된 뒤에 채워진다.
+  private Long articleId;
+  private int attempts;
+  private int status;
+  private String error;
+  private Instant acceptedAt;
+  private Instant completedAt;
+
+  public enum State {
+    PENDING, DONE, FAILED
+  }
+}
@@ -0,0 +1,88 @@
+package com.example.api.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 응답 시간을 보고 동시 처리 요청 수의 상한(Limit)을 스스로 조절한다. (Gradient 방식)
+// - 평소 응답 시간(long RTT, 지수 이동 평균)과 방금 응답 시간(short RTT)을 비교해서
+//   응답이 느려지면 Limit을 줄이고, 그대로면 조금씩(queue = √limit) 늘린다.
+// - 5xx 응답이나 예외는 과부하 신호로 보고 Limit을 backoffRatio 만큼 줄인다. (AIMD)
+// Limit을 넘는 요청은 기다리게 하지 않고 바로 거절한다.
+public class AdaptiveConcurrencyLimiter {
+  private final int minLimit;
+  private final int maxLimit;
+  private final double tolerance;
+  private final double smoothing;
+  private final double backoffRatio;
+  private final double longRttFactor;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  // Virtual Thread에서 호출되어도 Carrier Thread를 붙잡지 않도록 synchronized 대신 사용
+  private final ReentrantLock lock = new ReentrantLock();
+  private volatile double limit;
+  private double longRtt;
+
+  public AdaptiveConcurrencyLimiter(
+    int initialLimit,
+    int minLimit,
+    int maxLimit,
+    int longWindow,
+    double tolerance,
+    double smoothing,
+    double backoffRatio
+  ) {
+    this.limit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.tolerance = tolerance;
+    this.smoothing = smoothing;
+    this.backoffRatio = backoffRatio;
+    this.longRttFactor = 2.0 / (Math.max(1, longWindow) + 1);
+  }
+
+  // 처리할 수 있으면 true, 반드시 release로 돌려줘야 한다.
+  public boolean tryAcquire() {
+    int current = inFlight.incrementAndGet();
+    if (current > (int) limit) {
+      inFlight.decrementAndGet();
+      return false;
+    }
+    return true;
+  }
+
+  // rttNanos: 요청 처리 시간, dropped: 5xx 응답이나 예외로 끝났는지
+  public void release(long rttNanos, boolean dropped) {
+    int current = inFlight.getAndDecrement();
+    lock.lock();
+    try {
+      if (dropped) {
+        limit = Math.max(minLimit, limit * backoffRatio);
+        return;
+      }
+      if (longRtt == 0) {
+        longRtt = rttNanos;
+        return;
+      }
+      longRtt = longRtt * (1 - longRttFactor) + rttNanos * longRttFactor;
+      // 요청이 적어서 Limit을 다 쓰지 않고 있다면 늘리지 않는다.
+      if (current < limit / 2)
+        return;
+
+      double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / rttNanos));
+      double queue = Math.sqrt(limit);
+      double next = limit * gradient + queue;
+      next = limit * (1 - smoothing) + next * smoothing;
+      limit = Math.max(minLimit, Math.min(maxLimit, next));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+}
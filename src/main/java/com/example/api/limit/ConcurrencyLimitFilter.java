@@ -0,0 +1,150 @@
+package com.example.api.limit;
+
+import com.example.api.config.ArticleLimitProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// /articles, /test 요청의 입장 제어 (Load Shedding)
+// 1. 호출자 별 Token Bucket이 비어 있으면 429
+// 2. 동시 처리 요청 수가 AdaptiveConcurrencyLimiter의 Limit을 넘으면 503
+// 거절할 때는 대기열에 넣지 않고 Retry-After와 함께 바로 응답한다.
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+  public static final String REJECTED = "article.limit.rejected";
+
+  private final AdaptiveConcurrencyLimiter limiter;
+  private final ArticleLimitProperties properties;
+  private final MeterRegistry meterRegistry;
+  // 호출자 별 Token Bucket, null이면 호출자 별 제한을 하지 않는다.
+  private final LoadingCache<String, TokenBucket> buckets;
+
+  public ConcurrencyLimitFilter(ArticleLimitProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.limiter = new AdaptiveConcurrencyLimiter(
+      properties.getInitialLimit(),
+      properties.getMinLimit(),
+      properties.getMaxLimit(),
+      properties.getLongWindow(),
+      properties.getTolerance(),
+      properties.getSmoothing(),
+      properties.getBackoffRatio());
+
+    ArticleLimitProperties.Caller caller = properties.getCaller();
+    this.buckets = !caller.isEnabled() ? null : Caffeine.newBuilder()
+      .maximumSize(caller.getMaximumCallers())
+      // 한동안 요청이 없던 호출자의 Bucket은 가득 찬 것과 같으므로 버려도 된다.
+      .expireAfterAccess(Duration.ofSeconds((long) Math.ceil(caller.getBurst() / caller.getRate()) + 1))
+      .build(key -> new TokenBucket(caller.getRate(), caller.getBurst()));
+
+    Gauge.builder("article.limit.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+      .register(meterRegistry);
+    Gauge.builder("article.limit.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+      .register(meterRegistry);
+  }
+
+  @Override
+  protected void doFilterInternal(
+    HttpServletRequest request,
+    HttpServletResponse response,
+    FilterChain filterChain
+  ) throws ServletException, IOException {
+    if (buckets != null) {
+      TokenBucket bucket = buckets.get(callerOf(request));
+      if (!bucket.tryConsume()) {
+        reject(response, HttpStatus.TOO_MANY_REQUESTS, "rate",
+          Duration.ofNanos(bucket.nanosUntilAvailable()));
+        return;
+      }
+    }
+    if (!limiter.tryAcquire()) {
+      reject(response, HttpStatus.SERVICE_UNAVAILABLE, "concurrency", properties.getRetryAfter());
+      return;
+    }
+
+    long start = System.nanoTime();
+    AtomicBoolean released = new AtomicBoolean();
+    boolean failed = true;
+    try {
+      filterChain.doFilter(request, response);
+      failed = false;
+    } finally {
+      // Mono, NDJSON 같은 비동기 응답은 실제로 끝났을 때 돌려준다.
+      if (!failed && request.isAsyncStarted())
+        request.getAsyncContext().addListener(new ReleaseListener(start, released));
+      else
+        release(start, released, failed || response.getStatus() >= 500);
+    }
+  }
+
+  private void release(long start, AtomicBoolean released, boolean dropped) {
+    if (released.compareAndSet(false, true))
+      limiter.release(System.nanoTime() - start, dropped);
+  }
+
+  private String callerOf(HttpServletRequest request) {
+    String caller = request.getHeader(properties.getCaller().getHeader());
+    return caller != null && !caller.isBlank() ? caller : request.getRemoteAddr();
+  }
+
+  private void reject(
+    HttpServletResponse response,
+    HttpStatus status,
+    String reason,
+    Duration retryAfter
+  ) throws IOException {
+    meterRegistry.counter(REJECTED, "reason", reason).increment();
+    long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfter.toNanos() + 999_999_999));
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+    response.sendError(status.value());
+  }
+
+  private class ReleaseListener implements AsyncListener {
+    private final long start;
+    private final AtomicBoolean released;
+
+    ReleaseListener(long start, AtomicBoolean released) {
+      this.start = start;
+      this.released = released;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      HttpServletResponse response = (HttpServletResponse) event.getAsyncContext().getResponse();
+      release(start, released, response.getStatus() >= 500);
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      release(start, released, true);
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      release(start, released, true);
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      // 다시 비동기로 전환되면 계속 듣는다.
+      event.getAsyncContext().addListener(this);
+    }
+  }
+}
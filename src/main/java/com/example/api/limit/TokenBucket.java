@@ -0,0 +1,37 @@
+package com.example.api.limit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 초당 rate 개씩 채워지고 최대 burst 개까지 쌓이는 Token Bucket
+// 남은 Token 수 대신 "Bucket이 다시 가득 차는 시각" 하나만 저장해서 Lock 없이 CAS로 꺼낸다. (GCRA)
+public class TokenBucket {
+  // Token 하나가 채워지는 데 걸리는 시간
+  private final long interval;
+  // 빈 Bucket이 가득 차는 데 걸리는 시간
+  private final long capacity;
+  private final AtomicLong fullAt;
+
+  public TokenBucket(double rate, int burst) {
+    this.interval = (long) Math.ceil(1_000_000_000d / rate);
+    this.capacity = interval * Math.max(1, burst);
+    this.fullAt = new AtomicLong(System.nanoTime());
+  }
+
+  public boolean tryConsume() {
+    while (true) {
+      long now = System.nanoTime();
+      long current = fullAt.get();
+      long next = Math.max(current, now) + interval;
+      // 꺼내고 나서 가득 찰 때까지 capacity 보다 오래 걸린다면 남은 Token이 없다.
+      if (next - now > capacity)
+        return false;
+      if (fullAt.compareAndSet(current, next))
+        return true;
+    }
+  }
+
+  // Token 하나가 채워질 때까지 남은 시간 (Retry-After 계산용)
+  public long nanosUntilAvailable() {
+    return Math.max(0, fullAt.get() + interval - capacity - System.nanoTime());
+  }
+}
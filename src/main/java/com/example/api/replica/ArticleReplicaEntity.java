@@ -0,0 +1,53 @@
+package com.example.api.replica;
+
+import com.example.api.dto.ArticleDto;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+
+// Upstream 게시글의 복제본 한 행
+@Getter
+@Entity
+@Table(name = "article_replica")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArticleReplicaEntity {
+  // Upstream의 id를 그대로 사용한다.
+  @Id
+  private Long id;
+  private String title;
+  @Column(columnDefinition = "TEXT")
+  private String content;
+  private String writer;
+  // 마지막으로 Upstream에서 확인된 동기화 회차
+  // 동기화가 끝났을 때 이번 회차보다 작으면 Upstream에서 삭제된 게시글이다.
+  @Column(nullable = false)
+  private long syncGeneration;
+
+  ArticleReplicaEntity(ArticleDto dto, long syncGeneration) {
+    this.id = dto.getId();
+    this.syncGeneration = syncGeneration;
+    apply(dto);
+  }
+
+  // 바뀐 내용이 있으면 반영하고 true
+  boolean apply(ArticleDto dto) {
+    boolean changed = !Objects.equals(title, dto.getTitle())
+      || !Objects.equals(content, dto.getContent())
+      || !Objects.equals(writer, dto.getWriter());
+    title = dto.getTitle();
+    content = dto.getContent();
+    writer = dto.getWriter();
+    return changed;
+  }
+
+  void markSeen(long generation) {
+    this.syncGeneration = generation;
+  }
+
+  ArticleDto toDto() {
+    return new ArticleDto(id, title, content, writer);
+  }
+}
@@ -0,0 +1,34 @@
+package com.example.api.replica;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+// article.replica.enabled=false면 DataSource, JPA(Hibernate) 자동 설정을 제외한다.
+// (SQLite 파일을 만들지 않고, 시작 시간에 Hibernate 초기화가 더해지지 않는다.)
+// JPA Repository 자동 설정은 DataSource Bean이 없으면 동작하지 않는다.
+// META-INF/spring.factories에 등록되어 있다.
+public class ArticleReplicaEnvironmentPostProcessor implements EnvironmentPostProcessor {
+  private static final String EXCLUDE = "spring.autoconfigure.exclude";
+
+  @Override
+  public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+    if (environment.getProperty("article.replica.enabled", Boolean.class, false))
+      return;
+    // 이미 제외하도록 설정된 자동 설정은 그대로 둔다.
+    Set<String> excludes = new LinkedHashSet<>(
+      Arrays.asList(environment.getProperty(EXCLUDE, String[].class, new String[0])));
+    excludes.add(DataSourceAutoConfiguration.class.getName());
+    excludes.add(HibernateJpaAutoConfiguration.class.getName());
+    environment.getPropertySources().addFirst(
+      new MapPropertySource("articleReplicaDisabled", Map.of(EXCLUDE, String.join(",", excludes))));
+  }
+}
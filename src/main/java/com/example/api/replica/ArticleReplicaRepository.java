@@ -0,0 +1,20 @@
+package com.example.api.replica;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ArticleReplicaRepository extends JpaRepository<ArticleReplicaEntity, Long> {
+  List<ArticleReplicaEntity> findAllByOrderByIdAsc();
+
+  @Query("select coalesce(max(a.syncGeneration), 0) from ArticleReplicaEntity a")
+  long findMaxSyncGeneration();
+
+  // 이번 동기화에서 보지 못한 (Upstream에서 삭제된) 게시글을 한 번에 지운다.
+  @Modifying
+  @Query("delete from ArticleReplicaEntity a where a.syncGeneration < :generation")
+  int deleteNotSeenSince(@Param("generation") long generation);
+}
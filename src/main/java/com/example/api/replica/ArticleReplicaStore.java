@@ -0,0 +1,151 @@
+package com.example.api.replica;
+
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// SQLite에 저장된 게시글 복제본
+// ArticleReplicaSync가 Upstream 내용을 반영하고, ReplicaArticleClient가 조회에 사용한다.
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "article.replica", name = "enabled", havingValue = "true")
+public class ArticleReplicaStore {
+  private final ArticleReplicaRepository repository;
+  private final ArticleReplicaSyncStateRepository stateRepository;
+  // 한 번이라도 동기화가 끝났거나, 이전 실행에서 저장된 데이터가 있으면 true
+  private volatile boolean ready;
+  // 진행 중이거나 마지막으로 시작한 동기화 회차
+  private volatile long generation;
+  // 마지막으로 끝까지 진행된 동기화 회차와 끝난 시각 (epoch millis, 없으면 0)
+  private volatile long finishedGeneration;
+  private volatile long finishedAt;
+
+  // 한 페이지를 반영한다. 새로 추가되거나 바뀐 행만 다시 쓴다.
+  @Transactional
+  public PageResult applyPage(List<ArticleDto> articles, long generation) {
+    Map<Long, ArticleReplicaEntity> existing = repository
+      .findAllById(articles.stream().map(ArticleDto::getId).toList())
+      .stream()
+      .collect(Collectors.toMap(ArticleReplicaEntity::getId, Function.identity()));
+
+    int inserted = 0;
+    int updated = 0;
+    for (ArticleDto article : articles) {
+      ArticleReplicaEntity entity = existing.get(article.getId());
+      if (entity == null) {
+        repository.save(new ArticleReplicaEntity(article, generation));
+        inserted++;
+        continue;
+      }
+      if (entity.apply(article))
+        updated++;
+      // 영속 상태이므로 Transaction이 끝날 때 바뀐 값만 UPDATE 된다.
+      entity.markSeen(generation);
+    }
+    return new PageResult(inserted, updated);
+  }
+
+  // 동기화가 끝까지 진행된 뒤에 호출한다.
+  // 이번 회차와 바로 앞의 (끝까지 진행된) 회차에서 모두 보지 못한 게시글만 지운다.
+  // /articles/paged는 offset으로 자르므로, 동기화 중에 앞쪽 게시글이 삭제되면
+  // 뒤의 게시글이 한 칸씩 당겨져서 한 번은 보지 못하고 지나칠 수 있다.
+  // (대신 Upstream에서 삭제된 게시글은 한 회차 늦게 지워진다.)
+  @Transactional
+  public int finishSync(long generation) {
+    int deleted = finishedGeneration > 0 ? repository.deleteNotSeenSince(finishedGeneration) : 0;
+    long now = System.currentTimeMillis();
+    stateRepository.save(new ArticleReplicaSyncState(generation, now));
+    finishedGeneration = generation;
+    finishedAt = now;
+    ready = true;
+    return deleted;
+  }
+
+  // 새 동기화 회차를 시작한다.
+  @Transactional(readOnly = true)
+  public long startSync() {
+    generation = Math.max(generation, repository.findMaxSyncGeneration()) + 1;
+    return generation;
+  }
+
+  // Upstream에 쓴 결과를 바로 반영한다. (다음 동기화를 기다리지 않고 읽을 수 있도록)
+  // 진행 중인 동기화 회차로 표시해서, 이미 지나간 페이지에 생긴 게시글이 지워지지 않게 한다.
+  @Transactional
+  public void upsert(ArticleDto article) {
+    if (article == null || article.getId() == null)
+      return;
+    long current = generation;
+    repository.findById(article.getId()).ifPresentOrElse(
+      entity -> {
+        entity.apply(article);
+        entity.markSeen(Math.max(entity.getSyncGeneration(), current));
+      },
+      () -> repository.save(new ArticleReplicaEntity(article, current)));
+  }
+
+  @Transactional
+  public void delete(Long id) {
+    repository.deleteById(id);
+  }
+
+  @Transactional(readOnly = true)
+  public Optional<ArticleDto> findOne(Long id) {
+    return repository.findById(id).map(ArticleReplicaEntity::toDto);
+  }
+
+  @Transactional(readOnly = true)
+  public List<ArticleDto> findAll() {
+    return repository.findAllByOrderByIdAsc().stream()
+      .map(ArticleReplicaEntity::toDto)
+      .toList();
+  }
+
+  // Upstream의 /articles/paged와 같이 id 순서로 자른다.
+  @Transactional(readOnly = true)
+  public ArticlePageDto findPage(int page, int limit) {
+    Page<ArticleDto> result = repository.findAll(PageRequest.of(page, limit, Sort.by("id")))
+      .map(ArticleReplicaEntity::toDto);
+    return new ArticlePageDto(
+      result.getContent(),
+      result.getNumber(),
+      result.getSize(),
+      result.getTotalElements(),
+      result.getTotalPages(),
+      result.isFirst(),
+      result.isLast()
+    );
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  // 마지막으로 동기화가 끝난 시각 (이전 실행 포함, 한 번도 없으면 0)
+  public long lastSyncedAt() {
+    return finishedAt;
+  }
+
+  // 이전 실행에서 저장된 데이터가 있으면 첫 동기화 전에도 복제본으로 응답한다.
+  @Transactional(readOnly = true)
+  public void warmUp() {
+    ready = ready || repository.count() > 0;
+    stateRepository.findById(ArticleReplicaSyncState.ID).ifPresent(state -> {
+      finishedGeneration = state.getFinishedGeneration();
+      finishedAt = state.getFinishedAt();
+    });
+  }
+
+  public record PageResult(int inserted, int updated) {}
+}
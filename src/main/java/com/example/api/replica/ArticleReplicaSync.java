@@ -0,0 +1,91 @@
+package com.example.api.replica;
+
+import com.example.api.client.ArticleClient;
+import com.example.api.config.ArticleReplicaProperties;
+import com.example.api.dto.ArticlePageDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+// /articles/paged를 처음부터 끝까지 훑으면서 SQLite 복제본에 반영한다.
+// - 새로 생겼거나 바뀐 게시글만 다시 쓴다.
+// - 끝까지 훑은 뒤, 이번과 지난 동기화에서 모두 보지 못한 게시글은 Upstream에서 삭제된 것으로 보고 지운다.
+//   (중간에 실패하면 지우지 않고 다음 동기화에서 다시 시도한다.)
+// article.client.type으로 고른 구현체(upstreamArticleClient)로 읽는다. (Decorator, 특히 복제본을 거치지 않는다.)
+// 지표: article.replica.sync{outcome}, article.replica.changes{change}, article.replica.staleness
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "article.replica", name = "enabled", havingValue = "true")
+public class ArticleReplicaSync {
+  private final ArticleClient upstreamClient;
+  private final ArticleReplicaStore store;
+  private final ArticleReplicaProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  public ArticleReplicaSync(
+    @Qualifier("upstreamArticleClient") ArticleClient upstreamClient,
+    ArticleReplicaStore store,
+    ArticleReplicaProperties properties,
+    MeterRegistry meterRegistry
+  ) {
+    this.upstreamClient = upstreamClient;
+    this.store = store;
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    // 이전 실행의 동기화 시각부터 센다. 한 번도 동기화되지 않았으면 NaN
+    Gauge.builder("article.replica.staleness", store, replica -> replica.lastSyncedAt() == 0
+        ? Double.NaN
+        : TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - replica.lastSyncedAt()))
+      .baseUnit("seconds")
+      .description("마지막 동기화 이후 지난 시간")
+      .register(meterRegistry);
+  }
+
+  @PostConstruct
+  void warmUp() {
+    store.warmUp();
+  }
+
+  @Scheduled(fixedDelayString = "${article.replica.sync-interval:30s}")
+  public void sync() {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    long generation = store.startSync();
+    int page = 0;
+    int inserted = 0;
+    int updated = 0;
+    try {
+      ArticlePageDto result;
+      do {
+        result = fetch(page++);
+        if (result == null || result.getContent() == null)
+          break;
+        ArticleReplicaStore.PageResult applied = store.applyPage(result.getContent(), generation);
+        inserted += applied.inserted();
+        updated += applied.updated();
+      } while (!result.isLast() && !result.getContent().isEmpty());
+
+      int deleted = store.finishSync(generation);
+      meterRegistry.counter("article.replica.changes", "change", "inserted").increment(inserted);
+      meterRegistry.counter("article.replica.changes", "change", "updated").increment(updated);
+      meterRegistry.counter("article.replica.changes", "change", "deleted").increment(deleted);
+      sample.stop(meterRegistry.timer("article.replica.sync", "outcome", "success"));
+      log.info("replica sync #{}: {} pages, inserted={}, updated={}, deleted={}",
+        generation, page, inserted, updated, deleted);
+    } catch (RuntimeException e) {
+      sample.stop(meterRegistry.timer("article.replica.sync", "outcome", "failure"));
+      log.warn("replica sync #{} failed at page {}: {}", generation, page - 1, e.getMessage());
+    }
+  }
+
+  private ArticlePageDto fetch(int page) {
+    return upstreamClient.readPage(page, properties.getPageSize());
+  }
+}
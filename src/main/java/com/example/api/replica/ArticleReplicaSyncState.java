@@ -0,0 +1,30 @@
+package com.example.api.replica;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 마지막으로 끝까지 진행된 동기화 (한 행만 있다.)
+// 재시작한 뒤에도 복제본이 얼마나 오래되었는지, 어느 회차까지 확인했는지 알 수 있도록 저장한다.
+@Getter
+@Entity
+@Table(name = "article_replica_sync_state")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArticleReplicaSyncState {
+  static final long ID = 1L;
+
+  @Id
+  private Long id;
+  private long finishedGeneration;
+  // epoch millis
+  private long finishedAt;
+
+  ArticleReplicaSyncState(long finishedGeneration, long finishedAt) {
+    this.id = ID;
+    this.finishedGeneration = finishedGeneration;
+    this.finishedAt = finishedAt;
+  }
+}
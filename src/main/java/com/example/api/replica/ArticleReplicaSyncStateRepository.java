@@ -0,0 +1,6 @@
+package com.example.api.replica;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ArticleReplicaSyncStateRepository extends JpaRepository<ArticleReplicaSyncState, Long> {
+}
@@ -0,0 +1,45 @@
+package com.example.api.search;
+
+import com.example.api.config.ArticleSearchProperties;
+import com.example.api.dto.ArticleSearchHitDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+// GET /articles/search?q=spring boot&writer=alex&limit=10
+// Upstream을 거치지 않고 ArticleSearchIndex에서 찾는다. (controller.mode와 상관없이 등록된다.)
+// 지표: article.search.queries
+@RestController
+@RequestMapping("/articles")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "article.search", name = "enabled", havingValue = "true")
+public class ArticleSearchController {
+  private final ArticleSearchIndex index;
+  private final ArticleSearchProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  @GetMapping("/search")
+  public List<ArticleSearchHitDto> search(
+    @RequestParam(value = "q", defaultValue = "") String query,
+    @RequestParam(value = "writer", required = false) String writer,
+    @RequestParam(value = "limit", required = false) Integer limit
+  ) {
+    // 첫 색인이 끝나기 전에는 빈 결과 대신 503
+    if (!index.isReady())
+      throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "search index is not ready");
+    int size = Math.min(limit == null ? properties.getDefaultLimit() : limit, properties.getMaxLimit());
+    return Timer.builder("article.search.queries")
+      .publishPercentileHistogram()
+      .register(meterRegistry)
+      .record(() -> index.search(query, writer, size));
+  }
+}
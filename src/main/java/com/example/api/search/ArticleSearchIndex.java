@@ -0,0 +1,457 @@
+package com.example.api.search;
+
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticleSearchHitDto;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+// 게시글 전문 검색을 위한 메모리 역색인 (Inverted Index)
+// - 토큰: 소문자로 바꾼 뒤 글자 / 숫자가 아닌 문자로 나눈다. (한글은 어절 단위)
+// - 검색어의 토큰은 그 토큰으로 시작하는 단어와도 일치한다. (접두사 일치는 점수를 낮게 준다.)
+//   일치하는 단어가 MAX_EXPANSIONS 개보다 많으면 게시글이 많은 단어만 본다.
+// - 모든 토큰(과 writer)에 일치하는 게시글 중 BM25 점수가 높은 limit 개를 돌려준다.
+//   (title, writer, content 순으로 가중치를 준다.)
+// - 수정 / 삭제된 게시글은 자리만 비워두고 (tombstone), 빈 자리가 많아지면 Virtual Thread에서 다시 만든다.
+//   (IDF, 평균 문서 길이는 남은 게시글만으로 계산한다.)
+// 검색은 Read Lock, 변경은 Write Lock 안에서 실행된다.
+// 다시 만드는 동안에는 기존 색인으로 검색하고, 그 사이의 변경은 새 색인에도 반영한다.
+@Component
+public class ArticleSearchIndex {
+  private static final int TITLE_WEIGHT = 3;
+  private static final int WRITER_WEIGHT = 2;
+  private static final int CONTENT_WEIGHT = 1;
+  private static final float K1 = 1.2f;
+  private static final float B = 0.75f;
+  private static final float PREFIX_FACTOR = 0.5f;
+  // 접두사 하나가 일치할 수 있는 최대 단어 수
+  private static final int MAX_EXPANSIONS = 64;
+  private static final int MAX_TOKEN_LENGTH = 64;
+  // writer 필터용 term (글자 / 숫자로만 된 검색어 토큰과 겹치지 않는다.)
+  private static final String WRITER_TERM = "\u0000writer:";
+  // 빈 자리가 이보다 많고 남은 게시글 수보다도 많으면 다시 만든다.
+  private static final int COMPACT_THRESHOLD = 10_000;
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  // rebuild와 compact는 한 번에 하나만 실행한다.
+  private final ReentrantLock building = new ReentrantLock();
+  private final AtomicBoolean compacting = new AtomicBoolean();
+  // 검색에 쓰는 점수 배열 (게시글 수 만큼 크므로 재사용한다.)
+  private final BlockingQueue<Scratch> scratches
+    = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+  private Segment segment = new Segment();
+  // rebuild 중에 들어온 변경 (새 Segment에도 반영한다.)
+  private List<Consumer<Segment>> pending;
+  private volatile boolean ready;
+
+  // 전체 게시글로 색인을 새로 만든다. 만드는 동안에도 검색과 변경은 기존 색인으로 처리된다.
+  public void rebuild(Iterable<ArticleDto> articles) {
+    building.lock();
+    try {
+      lock.writeLock().lock();
+      try {
+        pending = new ArrayList<>();
+      } finally {
+        lock.writeLock().unlock();
+      }
+      swap(build(articles));
+      ready = true;
+    } finally {
+      building.unlock();
+    }
+  }
+
+  public void index(ArticleDto article) {
+    if (article == null || article.getId() == null)
+      return;
+    change(target -> target.add(article));
+  }
+
+  public void remove(Long id) {
+    change(target -> target.remove(id));
+  }
+
+  public List<ArticleSearchHitDto> search(String query, String writer, int limit) {
+    List<String> tokens = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+    if (writer != null && !writer.isBlank())
+      tokens.add(writerTerm(writer));
+    if (tokens.isEmpty() || limit <= 0)
+      return List.of();
+
+    lock.readLock().lock();
+    try {
+      return segment.search(tokens, limit);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // 첫 rebuild가 끝났는지
+  public boolean isReady() {
+    return ready;
+  }
+
+  // 색인된 게시글 수
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return segment.live;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  static List<String> tokenize(String text) {
+    if (text == null || text.isEmpty())
+      return List.of();
+    List<String> tokens = new ArrayList<>();
+    StringBuilder token = new StringBuilder();
+    for (int i = 0; i < text.length(); ) {
+      int codePoint = text.codePointAt(i);
+      i += Character.charCount(codePoint);
+      if (Character.isLetterOrDigit(codePoint)) {
+        if (token.length() < MAX_TOKEN_LENGTH)
+          token.appendCodePoint(Character.toLowerCase(codePoint));
+      } else if (!token.isEmpty()) {
+        tokens.add(token.toString());
+        token.setLength(0);
+      }
+    }
+    if (!token.isEmpty())
+      tokens.add(token.toString());
+    return tokens;
+  }
+
+  private static String writerTerm(String writer) {
+    return WRITER_TERM + writer.strip().toLowerCase(Locale.ROOT);
+  }
+
+  private void change(Consumer<Segment> change) {
+    lock.writeLock().lock();
+    try {
+      change.accept(segment);
+      if (pending != null)
+        pending.add(change);
+      else if (segment.needsCompaction() && compacting.compareAndSet(false, true))
+        Thread.ofVirtual().name("article-search-compact").start(this::compact);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  // 남은 게시글만으로 다시 만든다.
+  // Write Lock 안에서는 남은 게시글의 참조만 복사하고, 색인은 Lock 밖에서 만든다.
+  private void compact() {
+    try {
+      // rebuild 중이면 그 결과가 대신한다.
+      if (!building.tryLock())
+        return;
+      try {
+        List<ArticleDto> articles;
+        lock.writeLock().lock();
+        try {
+          if (pending != null || !segment.needsCompaction())
+            return;
+          articles = segment.liveArticles();
+          pending = new ArrayList<>();
+        } finally {
+          lock.writeLock().unlock();
+        }
+        swap(build(articles));
+      } finally {
+        building.unlock();
+      }
+    } finally {
+      compacting.set(false);
+    }
+  }
+
+  // pending을 만든 뒤에 호출한다. 실패하면 pending을 비운다.
+  private Segment build(Iterable<ArticleDto> articles) {
+    Segment fresh = new Segment();
+    try {
+      for (ArticleDto article : articles)
+        fresh.add(article);
+      return fresh;
+    } catch (RuntimeException e) {
+      lock.writeLock().lock();
+      try {
+        pending = null;
+      } finally {
+        lock.writeLock().unlock();
+      }
+      throw e;
+    }
+  }
+
+  // 만드는 동안 들어온 변경을 반영하고 교체한다.
+  private void swap(Segment fresh) {
+    lock.writeLock().lock();
+    try {
+      pending.forEach(change -> change.accept(fresh));
+      pending = null;
+      segment = fresh;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private Scratch scratch(int size) {
+    Scratch scratch = scratches.poll();
+    return scratch != null && scratch.scores.length >= size ? scratch : new Scratch(size + size / 4 + 16);
+  }
+
+  // 게시글 번호(ordinal)는 추가된 순서대로 늘어나고, 수정되면 새 번호를 받는다.
+  private final class Segment {
+    private final TreeMap<String, Postings> postings = new TreeMap<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    // null이면 수정 / 삭제된 자리
+    private ArticleDto[] articles = new ArticleDto[1024];
+    // 가중치를 곱한 토큰 수 (BM25의 문서 길이)
+    private int[] lengths = new int[1024];
+    private int size;
+    private int live;
+    private long totalLength;
+
+    void add(ArticleDto article) {
+      remove(article.getId());
+      if (size == articles.length) {
+        articles = Arrays.copyOf(articles, size * 2);
+        lengths = Arrays.copyOf(lengths, size * 2);
+      }
+      int ordinal = size++;
+      Map<String, Integer> frequencies = new HashMap<>();
+      int length = terms(article, frequencies);
+      frequencies.forEach((term, frequency) ->
+        postings.computeIfAbsent(term, key -> new Postings()).add(ordinal, frequency));
+
+      articles[ordinal] = article;
+      lengths[ordinal] = length;
+      ordinals.put(article.getId(), ordinal);
+      live++;
+      totalLength += length;
+    }
+
+    void remove(Long id) {
+      Integer ordinal = id == null ? null : ordinals.remove(id);
+      if (ordinal == null)
+        return;
+      // 단어 별 게시글 수를 줄이고, 남은 게시글이 없는 단어는 지운다.
+      Map<String, Integer> frequencies = new HashMap<>();
+      terms(articles[ordinal], frequencies);
+      for (String term : frequencies.keySet()) {
+        Postings removed = postings.get(term);
+        if (--removed.live == 0)
+          postings.remove(term);
+      }
+      articles[ordinal] = null;
+      totalLength -= lengths[ordinal];
+      live--;
+    }
+
+    // 빈 자리가 COMPACT_THRESHOLD보다 많고 남은 게시글 수보다도 많은지
+    boolean needsCompaction() {
+      int dead = size - live;
+      return dead > COMPACT_THRESHOLD && dead > live;
+    }
+
+    List<ArticleDto> liveArticles() {
+      List<ArticleDto> alive = new ArrayList<>(live);
+      for (int ordinal = 0; ordinal < size; ordinal++) {
+        if (articles[ordinal] != null)
+          alive.add(articles[ordinal]);
+      }
+      return alive;
+    }
+
+    List<ArticleSearchHitDto> search(List<String> tokens, int limit) {
+      // 토큰마다 일치하는 단어의 Postings를 모은다.
+      List<Match> matches = new ArrayList<>(tokens.size());
+      for (String token : tokens) {
+        Match match = match(token);
+        if (match.postings.isEmpty())
+          return List.of();
+        matches.add(match);
+      }
+      // 일치하는 게시글이 적은 토큰부터 보면, 이후 토큰은 앞에서 남은 게시글만 보면 된다.
+      matches.sort(Comparator.comparingLong(Match::count));
+
+      Scratch scratch = scratch(size);
+      try {
+        float averageLength = live == 0 ? 1f : (float) totalLength / live;
+        for (int token = 0; token < matches.size(); token++) {
+          Match match = matches.get(token);
+          for (int i = 0; i < match.postings.size(); i++)
+            accumulate(scratch, token, match.postings.get(i), match.factors.get(i), averageLength);
+        }
+        return top(scratch, matches.size(), limit);
+      } finally {
+        scratch.reset();
+        scratches.offer(scratch);
+      }
+    }
+
+    private Match match(String token) {
+      Match match = new Match();
+      if (token.startsWith(WRITER_TERM)) {
+        // writer는 정확히 일치해야 하고, 점수에는 반영하지 않는다.
+        Postings exact = postings.get(token);
+        if (exact != null)
+          match.add(exact, 0f);
+        return match;
+      }
+      Postings exact = postings.get(token);
+      if (exact != null)
+        match.add(exact, 1f);
+      // 접두사가 일치하는 단어를 모두 보고, 게시글이 가장 많은 MAX_EXPANSIONS 개만 남긴다.
+      // (게시글 수만 비교하므로 Postings를 읽지는 않는다.)
+      PriorityQueue<Postings> expansions
+        = new PriorityQueue<>(MAX_EXPANSIONS + 1, Comparator.comparingInt(prefixed -> prefixed.live));
+      for (Postings prefixed : postings.subMap(token, false, token + Character.MAX_VALUE, false).values()) {
+        expansions.add(prefixed);
+        if (expansions.size() > MAX_EXPANSIONS)
+          expansions.poll();
+      }
+      for (Postings prefixed : expansions)
+        match.add(prefixed, PREFIX_FACTOR);
+      return match;
+    }
+
+    private void accumulate(Scratch scratch, int token, Postings postings, float factor, float averageLength) {
+      // 빈 자리는 빼고 계산한다.
+      float idf = (float) Math.log(1 + (live - postings.live + 0.5) / (postings.live + 0.5));
+      for (int i = 0; i < postings.size; i++) {
+        int ordinal = postings.ordinals[i];
+        int matched = scratch.matched[ordinal];
+        if (matched == token) {
+          // 이 토큰과 처음 일치 (앞의 토큰과는 모두 일치했다.)
+          scratch.matched[ordinal] = token + 1;
+          if (token == 0)
+            scratch.touch(ordinal);
+        } else if (matched != token + 1) {
+          // 앞의 토큰 중 일치하지 않은 것이 있다.
+          continue;
+        }
+        if (factor > 0) {
+          int frequency = postings.frequencies[i];
+          float norm = K1 * (1 - B + B * lengths[ordinal] / averageLength);
+          scratch.scores[ordinal] += factor * idf * frequency * (K1 + 1) / (frequency + norm);
+        }
+      }
+    }
+
+    private List<ArticleSearchHitDto> top(Scratch scratch, int required, int limit) {
+      // 점수가 가장 낮은 것이 맨 앞에 오는 크기 limit의 Heap
+      Comparator<Integer> order = Comparator
+        .<Integer>comparingDouble(ordinal -> scratch.scores[ordinal])
+        .thenComparing(ordinal -> -articles[ordinal].getId());
+      PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, order);
+      for (int i = 0; i < scratch.touched; i++) {
+        int ordinal = scratch.touchedOrdinals[i];
+        if (scratch.matched[ordinal] != required || articles[ordinal] == null)
+          continue;
+        if (heap.size() < limit) {
+          heap.add(ordinal);
+        } else if (order.compare(ordinal, heap.peek()) > 0) {
+          heap.poll();
+          heap.add(ordinal);
+        }
+      }
+      List<ArticleSearchHitDto> hits = new ArrayList<>(heap.size());
+      while (!heap.isEmpty()) {
+        int ordinal = heap.poll();
+        hits.add(new ArticleSearchHitDto(articles[ordinal], scratch.scores[ordinal]));
+      }
+      Collections.reverse(hits);
+      return hits;
+    }
+
+    // 단어 별 (가중치를 곱한) 등장 횟수를 frequencies에 담고, 문서 길이를 돌려준다.
+    private static int terms(ArticleDto article, Map<String, Integer> frequencies) {
+      int length = count(frequencies, article.getTitle(), TITLE_WEIGHT)
+        + count(frequencies, article.getWriter(), WRITER_WEIGHT)
+        + count(frequencies, article.getContent(), CONTENT_WEIGHT);
+      if (article.getWriter() != null && !article.getWriter().isBlank())
+        frequencies.put(writerTerm(article.getWriter()), 1);
+      return length;
+    }
+
+    private static int count(Map<String, Integer> frequencies, String text, int weight) {
+      List<String> tokens = tokenize(text);
+      for (String token : tokens)
+        frequencies.merge(token, weight, Integer::sum);
+      return tokens.size() * weight;
+    }
+  }
+
+  // 단어 하나에 일치하는 게시글 번호와 (가중치를 곱한) 등장 횟수
+  // 번호는 늘어나는 순서로만 추가된다. 빈 자리의 번호도 남아 있으므로 게시글 수는 live로 센다.
+  private static final class Postings {
+    private int[] ordinals = new int[2];
+    private int[] frequencies = new int[2];
+    private int size;
+    private int live;
+
+    void add(int ordinal, int frequency) {
+      if (size == ordinals.length) {
+        ordinals = Arrays.copyOf(ordinals, size * 2);
+        frequencies = Arrays.copyOf(frequencies, size * 2);
+      }
+      ordinals[size] = ordinal;
+      frequencies[size] = frequency;
+      size++;
+      live++;
+    }
+  }
+
+  // 검색어 토큰 하나에 일치하는 단어들 (정확히 일치 + 접두사 일치)
+  private static final class Match {
+    private final List<Postings> postings = new ArrayList<>();
+    private final List<Float> factors = new ArrayList<>();
+    private long count;
+
+    void add(Postings matched, float factor) {
+      postings.add(matched);
+      factors.add(factor);
+      count += matched.size;
+    }
+
+    long count() {
+      return count;
+    }
+  }
+
+  // 검색 한 번에 쓰는 게시글 별 점수와 일치한 토큰 수
+  private static final class Scratch {
+    private final float[] scores;
+    private final int[] matched;
+    private int[] touchedOrdinals = new int[256];
+    private int touched;
+
+    Scratch(int capacity) {
+      scores = new float[capacity];
+      matched = new int[capacity];
+    }
+
+    void touch(int ordinal) {
+      if (touched == touchedOrdinals.length)
+        touchedOrdinals = Arrays.copyOf(touchedOrdinals, touched * 2);
+      touchedOrdinals[touched++] = ordinal;
+    }
+
+    // 건드린 자리만 되돌린다.
+    void reset() {
+      for (int i = 0; i < touched; i++) {
+        scores[touchedOrdinals[i]] = 0;
+        matched[touchedOrdinals[i]] = 0;
+      }
+      touched = 0;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.example.api.search;
+
+import com.example.api.client.ArticleClient;
+import com.example.api.config.ArticlePagingProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 전체 게시글을 /articles/paged로 읽어서 ArticleSearchIndex를 주기적으로 새로 만든다.
+// (시작할 때 한 번 만들고, 그 사이의 변경은 IndexingArticleClient가 반영한다.)
+// article.client.type으로 고른 구현체(upstreamArticleClient)로 Decorator(캐시, 복제본)를 거치지 않고 Upstream에서 바로 읽는다.
+// (다른 종류의 HTTP Client는 만들어지지 않는다.)
+// 지표: article.search.rebuild{outcome}, article.search.documents
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "article.search", name = "enabled", havingValue = "true")
+public class ArticleSearchIndexer {
+  private final ArticleClient upstreamClient;
+  private final ArticleSearchIndex index;
+  private final ArticlePagingProperties pagingProperties;
+  private final MeterRegistry meterRegistry;
+
+  public ArticleSearchIndexer(
+    @Qualifier("upstreamArticleClient") ArticleClient upstreamClient,
+    ArticleSearchIndex index,
+    ArticlePagingProperties pagingProperties,
+    MeterRegistry meterRegistry
+  ) {
+    this.upstreamClient = upstreamClient;
+    this.index = index;
+    this.pagingProperties = pagingProperties;
+    this.meterRegistry = meterRegistry;
+    Gauge.builder("article.search.documents", index, ArticleSearchIndex::size)
+      .description("검색 색인에 들어 있는 게시글 수")
+      .register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${article.search.rebuild-interval:10m}")
+  public void rebuild() {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    try {
+      index.rebuild(upstreamClient.readAllPaged(pagingProperties.getPageSize(), pagingProperties.getPrefetch()));
+      long nanos = sample.stop(meterRegistry.timer("article.search.rebuild", "outcome", "success"));
+      log.info("search index rebuilt: {} articles in {} ms", index.size(), nanos / 1_000_000);
+    } catch (RuntimeException e) {
+      sample.stop(meterRegistry.timer("article.search.rebuild", "outcome", "failure"));
+      log.warn("search index rebuild failed: {}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,238 @@
+package com.example.api.warmup;
+
+import com.example.api.client.*;
+import com.example.api.config.ArticleClientProperties;
+import com.example.api.config.ArticleWarmupProperties;
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+// 시작 직후의 요청이 느리지 않도록 Readiness 전에 Upstream 호출 경로를 미리 실행한다.
+// ApplicationRunner는 ReadinessState가 ACCEPTING_TRAFFIC이 되기 전에 실행되므로
+// 끝날 때까지 /actuator/health/readiness는 OUT_OF_SERVICE(503)다.
+// 1. Jackson: ArticleDto, List<ArticleDto>, ArticlePageDto의 Serializer / Deserializer를 만든다.
+// 2. Connection: 서로 다른 id로 readOne을 connections 개 동시에 보내서 Pool에 Connection을 열어둔다.
+//    (Apache HttpClient, Reactor Netty Event Loop, Proxy 생성도 이때 일어난다.)
+// 3. 반복: readOne, readPage를 iterations 번 호출한다. (JIT)
+// controller.mode가 사용하는 구현체(article.client.type의 ArticleClient, ArticleReactiveWebClient,
+// 또는 passthrough의 WebClient)를 Decorator 없이 호출한다.
+// (합치기, 캐시가 Upstream 요청을 줄이지 않고, 복제본, 검색 색인, stale-fallback, article.client.* 지표에 남지 않는다.)
+// 조회만 하므로 Upstream 데이터는 바뀌지 않는다. 4xx 응답도 같은 경로를 거치므로 성공으로 본다.
+// Upstream에 연결할 수 없으면 3은 건너뛰고, timeout이 지나면 진행 중인 요청을 중단하고 멈춘다. (시작은 실패하지 않는다.)
+// 지표: article.warmup.duration{outcome=success|partial|timeout|unreachable}
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "article.warmup", name = "enabled", havingValue = "true")
+public class ArticleWarmupRunner implements ApplicationRunner {
+  private final ArticleWarmupProperties properties;
+  private final ArticleClientProperties clientProperties;
+  private final String controllerMode;
+  private final ObjectProvider<ArticleTemplateClient> templateClient;
+  private final ObjectProvider<ArticleWebClient> webArticleClient;
+  private final ObjectProvider<ArticleRestClient> restClient;
+  private final ObjectProvider<ArticleService> service;
+  private final ObjectProvider<ArticleReactiveWebClient> reactiveClient;
+  private final ObjectProvider<WebClient> webClient;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+
+  public ArticleWarmupRunner(
+    ArticleWarmupProperties properties,
+    ArticleClientProperties clientProperties,
+    @Value("${article.controller.mode:blocking}") String controllerMode,
+    ObjectProvider<ArticleTemplateClient> templateClient,
+    ObjectProvider<ArticleWebClient> webArticleClient,
+    ObjectProvider<ArticleRestClient> restClient,
+    ObjectProvider<ArticleService> service,
+    ObjectProvider<ArticleReactiveWebClient> reactiveClient,
+    ObjectProvider<WebClient> webClient,
+    ObjectMapper objectMapper,
+    MeterRegistry meterRegistry
+  ) {
+    this.properties = properties;
+    this.clientProperties = clientProperties;
+    this.controllerMode = controllerMode;
+    this.templateClient = templateClient;
+    this.webArticleClient = webArticleClient;
+    this.restClient = restClient;
+    this.service = service;
+    this.reactiveClient = reactiveClient;
+    this.webClient = webClient;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    long deadline = System.nanoTime() + properties.getTimeout().toNanos();
+    Progress progress = new Progress();
+    String outcome;
+    try {
+      outcome = warmUp(deadline, progress);
+    } catch (RuntimeException e) {
+      log.warn("warmup failed: {}", e.toString());
+      outcome = "partial";
+    }
+    long nanos = sample.stop(meterRegistry.timer("article.warmup.duration", "outcome", outcome));
+    log.info("warmup {} in {} ms: {} requests, {} failed",
+      outcome, nanos / 1_000_000, progress.requests().get(), progress.failures().get());
+  }
+
+  private String warmUp(long deadline, Progress progress) {
+    warmUpJackson();
+    Paths paths = paths();
+    // 요청마다 Virtual Thread에서 실행하고 deadline까지만 기다린다.
+    ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    try {
+      // 동시에 보내야 Connection이 하나씩 따로 열린다.
+      int connections = Math.max(1, properties.getConnections());
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<Boolean>> opening = new ArrayList<>(connections);
+      for (int i = 0; i < connections; i++) {
+        Call call = paths.readOne().apply(properties.getArticleId() + i);
+        opening.add(executor.submit(() -> {
+          start.await();
+          return attempt(call, progress);
+        }));
+      }
+      start.countDown();
+      int answered = 0;
+      for (Future<Boolean> result : opening) {
+        Boolean ok = await(result, deadline);
+        if (ok == null)
+          return "timeout";
+        if (ok)
+          answered++;
+      }
+      if (answered == 0) {
+        log.warn("warmup: upstream unreachable, skipping client warmup");
+        return "unreachable";
+      }
+
+      Call readOne = paths.readOne().apply(properties.getArticleId());
+      for (int i = 0; i < properties.getIterations(); i++) {
+        for (Call call : List.of(readOne, paths.readPage())) {
+          if (await(executor.submit(() -> attempt(call, progress)), deadline) == null)
+            return "timeout";
+        }
+      }
+      return progress.failures().get() == 0 ? "success" : "partial";
+    } finally {
+      // deadline이 지나서 남은 요청은 중단한다. (끝나기를 기다리지 않는다.)
+      executor.shutdownNow();
+    }
+  }
+
+  // 응답을 (역)직렬화할 때 처음 한 번 만들어지는 Serializer / Deserializer
+  private void warmUpJackson() {
+    ArticleDto article = new ArticleDto(properties.getArticleId(), "warmup", "warmup", "warmup");
+    List<ArticleDto> articles = List.of(article, article);
+    ArticlePageDto page = new ArticlePageDto(articles, 0, articles.size(), articles.size(), 1, true, true);
+    JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, ArticleDto.class);
+    try {
+      for (int i = 0; i < properties.getIterations(); i++) {
+        objectMapper.readerFor(ArticleDto.class)
+          .readValue(objectMapper.writerFor(ArticleDto.class).writeValueAsBytes(article));
+        objectMapper.readerFor(listType)
+          .readValue(objectMapper.writerFor(listType).writeValueAsBytes(articles));
+        objectMapper.readerFor(ArticlePageDto.class)
+          .readValue(objectMapper.writerFor(ArticlePageDto.class).writeValueAsBytes(page));
+      }
+    } catch (IOException | RuntimeException e) {
+      log.warn("warmup: jackson warmup failed: {}", e.toString());
+    }
+  }
+
+  // controller.mode가 요청을 처리할 때 사용하는 (Decorator를 거치지 않은) 구현체
+  private Paths paths() {
+    int pageSize = properties.getPageSize();
+    return switch (controllerMode) {
+      case "reactive" -> {
+        ArticleReactiveWebClient client = reactiveClient.getObject();
+        yield new Paths(
+          id -> () -> client.readOne(id).block(),
+          () -> client.readPage(0, pageSize).block());
+      }
+      case "passthrough" -> {
+        WebClient client = webClient.getObject();
+        yield new Paths(
+          id -> () -> client.get().uri("/articles/{id}", id).retrieve().toBodilessEntity().block(),
+          () -> client.get().uri("/articles/paged?page={page}&limit={limit}", 0, pageSize)
+            .retrieve().toBodilessEntity().block());
+      }
+      default -> {
+        ArticleClient client = switch (clientProperties.getType()) {
+          case TEMPLATE -> templateClient.getObject();
+          case WEB -> webArticleClient.getObject();
+          case REST -> restClient.getObject();
+          case INTERFACE -> service.getObject();
+        };
+        yield new Paths(
+          id -> () -> client.readOne(id),
+          () -> client.readPage(0, pageSize));
+      }
+    };
+  }
+
+  // 끝나면 결과, deadline이 지나면 요청을 중단하고 null
+  private static Boolean await(Future<Boolean> result, long deadline) {
+    try {
+      return result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      result.cancel(true);
+      return null;
+    } catch (ExecutionException e) {
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      result.cancel(true);
+      return null;
+    }
+  }
+
+  // Upstream이 응답했으면 (4xx 포함) true
+  private boolean attempt(Call call, Progress progress) {
+    progress.requests().incrementAndGet();
+    try {
+      call.run();
+      return true;
+    } catch (RuntimeException e) {
+      if (UpstreamFailurePredicate.status(e) < 500)
+        return true;
+      progress.failures().incrementAndGet();
+      return false;
+    }
+  }
+
+  @FunctionalInterface
+  private interface Call {
+    void run();
+  }
+
+  private record Paths(LongFunction<Call> readOne, Call readPage) {}
+
+  private record Progress(AtomicInteger requests, AtomicInteger failures) {
+    Progress() {
+      this(new AtomicInteger(), new AtomicInteger());
+    }
+  }
+}
@@ -0,0 +1,311 @@
+package com.example.api.writebehind;
+
+import com.example.api.client.ArticleClient;
+import com.example.api.client.UpstreamFailurePredicate;
+import com.example.api.config.ArticleBatchProperties;
+import com.example.api.config.ArticleWriteBehindProperties;
+import com.example.api.dto.ArticleBatchResultDto;
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticleWriteStatusDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 쓰기 요청을 WriteJournal에 기록한 뒤 바로 돌려주고 (202),
+// 뒤에서 batch로 모아서 ArticleClient로 Upstream에 반영한다. (Write-Behind)
+// - parallelism 개의 lane이 각자 batchSize 만큼, 최대 linger 동안 모아서 보낸다.
+// - 같은 게시글에 대한 update, delete는 항상 같은 lane으로 보내서 순서를 지킨다.
+// - 연속된 create는 createAll 한 번으로 보낸다.
+// - 5xx 응답, 연결 실패는 그 자리에서 재시도하므로 뒤의 요청이 앞지르지 않는다.
+// 전달은 at-least-once다. create는 멱등하지 않으므로, Upstream이 만든 뒤 응답만 잃은 경우(Timeout, 5xx)의 재시도나
+// '-'를 기록하기 전에 종료된 뒤의 재전송은 같은 게시글을 한 번 더 만들 수 있다.
+// 지표: article.write-behind.depth, article.write-behind.flush, article.write-behind.writes{operation,result}
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "article.write-behind", name = "enabled", havingValue = "true")
+public class ArticleWriteQueue {
+  public static final String DEPTH = "article.write-behind.depth";
+  public static final String FLUSH = "article.write-behind.flush";
+  public static final String WRITES = "article.write-behind.writes";
+
+  private final ArticleClient client;
+  private final ArticleWriteBehindProperties properties;
+  private final MeterRegistry meterRegistry;
+  // 한 번에 Upstream으로 보내는 최대 요청 수 (createAll이 받을 수 있는 article.batch.max-size 이하)
+  private final int batchSize;
+  private final WriteJournal journal;
+  private final List<BlockingQueue<WriteOperation>> lanes = new ArrayList<>();
+  private final Cache<String, ArticleWriteStatusDto> statuses;
+  private final UpstreamFailurePredicate retryable = new UpstreamFailurePredicate();
+  // create는 id가 없으므로 돌아가면서 lane을 고른다.
+  private final AtomicInteger nextLane = new AtomicInteger();
+  private final List<Thread> flushers = new ArrayList<>();
+  private volatile boolean running;
+
+  public ArticleWriteQueue(
+    ArticleClient client,
+    ArticleWriteBehindProperties properties,
+    ArticleBatchProperties batchProperties,
+    ObjectMapper objectMapper,
+    MeterRegistry meterRegistry
+  ) {
+    this.client = client;
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.batchSize = Math.max(1, Math.min(properties.getBatchSize(), batchProperties.getMaxSize()));
+    this.journal = new WriteJournal(
+      Path.of(properties.getJournal()), objectMapper, properties.isFsync(), properties.getCapacity());
+    for (int i = 0; i < Math.max(1, properties.getParallelism()); i++)
+      lanes.add(new LinkedBlockingQueue<>());
+    this.statuses = Caffeine.newBuilder()
+      .expireAfterWrite(properties.getStatusTtl())
+      .maximumSize(properties.getStatusMaximumSize())
+      .build();
+    Gauge.builder(DEPTH, journal, WriteJournal::size)
+      .description("Upstream에 아직 반영되지 않은 쓰기 요청 수")
+      .register(meterRegistry);
+  }
+
+  // 이전 실행에서 반영하지 못한 요청을 먼저 다시 넣고 lane을 시작한다.
+  @PostConstruct
+  void start() throws IOException {
+    List<WriteOperation> recovered = journal.recover();
+    recovered.forEach(operation -> {
+      statuses.put(operation.trackingId(), pending(operation));
+      lane(operation).add(operation);
+    });
+    if (!recovered.isEmpty())
+      log.info("write-behind: recovered {} pending writes from {}", recovered.size(), properties.getJournal());
+
+    running = true;
+    for (int i = 0; i < lanes.size(); i++) {
+      BlockingQueue<WriteOperation> lane = lanes.get(i);
+      flushers.add(Thread.ofVirtual()
+        .name("article-write-behind-" + i)
+        .start(() -> drain(lane)));
+    }
+  }
+
+  // 남은 요청은 shutdownTimeout 동안 보내고, 못 보낸 요청은 journal에 남겨서 다음 실행에서 보낸다.
+  @PreDestroy
+  void stop() throws IOException, InterruptedException {
+    running = false;
+    long deadline = System.nanoTime() + properties.getShutdownTimeout().toNanos();
+    for (Thread flusher : flushers) {
+      flusher.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+      flusher.interrupt();
+    }
+    journal.close();
+  }
+
+  public ArticleWriteStatusDto create(ArticleDto dto) {
+    return enqueue(WriteOperation.Type.CREATE, null, dto);
+  }
+
+  public ArticleWriteStatusDto update(Long id, ArticleDto dto) {
+    return enqueue(WriteOperation.Type.UPDATE, id, dto);
+  }
+
+  public ArticleWriteStatusDto delete(Long id) {
+    return enqueue(WriteOperation.Type.DELETE, id, null);
+  }
+
+  public Optional<ArticleWriteStatusDto> status(String trackingId) {
+    return Optional.ofNullable(statuses.getIfPresent(trackingId));
+  }
+
+  private ArticleWriteStatusDto enqueue(WriteOperation.Type type, Long articleId, ArticleDto article) {
+    if (!running)
+      throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "write-behind queue is stopped");
+    WriteOperation operation = new WriteOperation(
+      UUID.randomUUID().toString(), type, articleId, article, Instant.now());
+    boolean accepted;
+    try {
+      accepted = journal.append(operation);
+    } catch (RuntimeException e) {
+      log.error("failed to journal {} write: {}", type.operation(), e.getMessage());
+      throw new ResponseStatusException(
+        HttpStatus.SERVICE_UNAVAILABLE, "write-behind journal unavailable", e);
+    }
+    if (!accepted) {
+      meterRegistry.counter(WRITES, "operation", type.operation(), "result", "rejected").increment();
+      throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "write-behind queue is full");
+    }
+
+    ArticleWriteStatusDto status = pending(operation);
+    statuses.put(operation.trackingId(), status);
+    lane(operation).add(operation);
+    return status;
+  }
+
+  private BlockingQueue<WriteOperation> lane(WriteOperation operation) {
+    int index = operation.articleId() == null
+      ? Math.floorMod(nextLane.getAndIncrement(), lanes.size())
+      : Math.floorMod(operation.articleId().hashCode(), lanes.size());
+    return lanes.get(index);
+  }
+
+  private void drain(BlockingQueue<WriteOperation> lane) {
+    List<WriteOperation> batch = new ArrayList<>(batchSize);
+    while (running || !lane.isEmpty()) {
+      try {
+        WriteOperation first = lane.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null)
+          continue;
+        batch.add(first);
+        collect(lane, batch);
+        flush(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        // 꺼낸 요청을 PENDING으로 남겨두면 재시작할 때까지 capacity를 차지하므로 실패로 끝낸다.
+        log.error("write-behind flush failed", e);
+        for (WriteOperation operation : batch)
+          if (journal.isPending(operation.trackingId()))
+            failed(operation, 1, UpstreamFailurePredicate.status(e), e.getMessage());
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  // 첫 요청을 꺼낸 뒤 linger 동안 batchSize까지 모은다.
+  private void collect(BlockingQueue<WriteOperation> lane, List<WriteOperation> batch)
+    throws InterruptedException {
+    long deadline = System.nanoTime() + properties.getLinger().toNanos();
+    while (batch.size() < batchSize) {
+      lane.drainTo(batch, batchSize - batch.size());
+      long remaining = deadline - System.nanoTime();
+      if (batch.size() >= batchSize || remaining <= 0)
+        break;
+      WriteOperation next = lane.poll(remaining, TimeUnit.NANOSECONDS);
+      if (next == null)
+        break;
+      batch.add(next);
+    }
+  }
+
+  private void flush(List<WriteOperation> batch) throws InterruptedException {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    int from = 0;
+    while (from < batch.size()) {
+      int to = from;
+      while (to < batch.size() && batch.get(to).type() == WriteOperation.Type.CREATE)
+        to++;
+      if (to > from) {
+        createAll(batch.subList(from, to));
+        from = to;
+      } else {
+        WriteOperation operation = batch.get(from++);
+        apply(operation, 1, operation.type() == WriteOperation.Type.UPDATE
+          ? () -> client.update(operation.articleId(), operation.article())
+          : () -> {
+            client.delete(operation.articleId());
+            return null;
+          });
+      }
+    }
+    sample.stop(meterRegistry.timer(FLUSH));
+    meterRegistry.summary(FLUSH + ".size").record(batch.size());
+  }
+
+  private void createAll(List<WriteOperation> creates) throws InterruptedException {
+    List<ArticleBatchResultDto> results;
+    try {
+      results = client.createAll(creates.stream().map(WriteOperation::article).toList());
+    } catch (RuntimeException e) {
+      // batch 전체가 거절되면 (400 등) 모두 실패로 끝내고,
+      // 5xx, 연결 실패면 하나씩 다시 보낸다.
+      for (WriteOperation operation : creates) {
+        if (retryable.test(e))
+          apply(operation, 2, () -> client.create(operation.article()));
+        else
+          failed(operation, 1, UpstreamFailurePredicate.status(e), e.getMessage());
+      }
+      return;
+    }
+    for (int i = 0; i < creates.size(); i++) {
+      WriteOperation operation = creates.get(i);
+      ArticleBatchResultDto result = results.get(i);
+      if (result.getStatus() < 300)
+        done(operation, 1, result.getArticle());
+      else if (result.getStatus() >= 500)
+        apply(operation, 2, () -> client.create(operation.article()));
+      else
+        failed(operation, 1, result.getStatus(), result.getError());
+    }
+  }
+
+  // attempt 번째 시도부터 maxAttempts 까지 재시도한다.
+  private void apply(WriteOperation operation, int attempt, Supplier<ArticleDto> call)
+    throws InterruptedException {
+    for (; ; attempt++) {
+      try {
+        done(operation, attempt, call.get());
+        return;
+      } catch (RuntimeException e) {
+        // 종료 중이면 재시도하지 않고 journal에 남겨둔다.
+        if (!running && retryable.test(e))
+          return;
+        if (attempt >= properties.getMaxAttempts() || !retryable.test(e)) {
+          failed(operation, attempt, UpstreamFailurePredicate.status(e), e.getMessage());
+          return;
+        }
+        log.debug("{} {} attempt {} failed: {}",
+          operation.type().operation(), operation.trackingId(), attempt, e.getMessage());
+        Thread.sleep(properties.getRetryBackoff().multipliedBy(attempt));
+      }
+    }
+  }
+
+  private void done(WriteOperation operation, int attempts, ArticleDto article) {
+    Long articleId = article != null && article.getId() != null ? article.getId() : operation.articleId();
+    complete(operation, new ArticleWriteStatusDto(
+      operation.trackingId(), operation.type().operation(), ArticleWriteStatusDto.State.DONE,
+      articleId, attempts, HttpStatus.OK.value(), null, operation.acceptedAt(), Instant.now()));
+  }
+
+  private void failed(WriteOperation operation, int attempts, int status, String error) {
+    log.warn("{} {} failed after {} attempts: {} {}",
+      operation.type().operation(), operation.trackingId(), attempts, status, error);
+    complete(operation, new ArticleWriteStatusDto(
+      operation.trackingId(), operation.type().operation(), ArticleWriteStatusDto.State.FAILED,
+      operation.articleId(), attempts, status, error, operation.acceptedAt(), Instant.now()));
+  }
+
+  private void complete(WriteOperation operation, ArticleWriteStatusDto status) {
+    journal.complete(operation.trackingId());
+    statuses.put(operation.trackingId(), status);
+    meterRegistry.counter(WRITES,
+        "operation", operation.type().operation(),
+        "result", status.getState().name().toLowerCase())
+      .increment();
+  }
+
+  private static ArticleWriteStatusDto pending(WriteOperation operation) {
+    return new ArticleWriteStatusDto(
+      operation.trackingId(), operation.type().operation(), ArticleWriteStatusDto.State.PENDING,
+      operation.articleId(), 0, 0, null, operation.acceptedAt(), null);
+  }
+}
@@ -0,0 +1,61 @@
+package com.example.api.writebehind;
+
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticleWriteStatusDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
+
+// article.write-behind.enabled=true 일 때 등록되는 비동기 쓰기 API
+// Upstream 응답을 기다리지 않고 journal에 기록한 뒤 202와 tracking id를 돌려준다.
+// 처리 결과는 Location 헤더의 GET /articles/writes/{trackingId}로 확인한다.
+// (기존 POST /articles 등은 그대로 Upstream 응답을 기다린다.)
+@RestController
+@RequestMapping("/articles")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "article.write-behind", name = "enabled", havingValue = "true")
+public class WriteBehindArticleController {
+  private final ArticleWriteQueue queue;
+
+  @PostMapping("/async")
+  public ResponseEntity<ArticleWriteStatusDto> create(
+    @RequestBody
+    ArticleDto dto
+  ) {
+    return accepted(queue.create(dto));
+  }
+
+  @PutMapping("/async/{id}")
+  public ResponseEntity<ArticleWriteStatusDto> update(
+    @PathVariable("id") Long id,
+    @RequestBody ArticleDto dto
+  ) {
+    return accepted(queue.update(id, dto));
+  }
+
+  @DeleteMapping("/async/{id}")
+  public ResponseEntity<ArticleWriteStatusDto> delete(
+    @PathVariable("id") Long id
+  ) {
+    return accepted(queue.delete(id));
+  }
+
+  @GetMapping("/writes/{trackingId}")
+  public ArticleWriteStatusDto status(
+    @PathVariable("trackingId") String trackingId
+  ) {
+    return queue.status(trackingId).orElseThrow(() ->
+      new ResponseStatusException(HttpStatus.NOT_FOUND, "unknown or expired tracking id"));
+  }
+
+  private static ResponseEntity<ArticleWriteStatusDto> accepted(ArticleWriteStatusDto status) {
+    return ResponseEntity.accepted()
+      .location(URI.create("/articles/writes/" + status.getTrackingId()))
+      .body(status);
+  }
+}
@@ -0,0 +1,190 @@
+package com.example.api.writebehind;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 받은 쓰기 요청을 파일 끝에 한 줄씩 기록한다. (Write-Ahead Log)
+// - 받은 요청: '+' + WriteOperation JSON
+// - 끝난 (Upstream에 반영했거나 포기한) 요청: '-' + trackingId
+// 재시작하면 '-'가 없는 요청을 돌려준다. (recover)
+// 남은 요청이 없으면 파일을 비우고, 기록이 너무 길어지면 남은 요청만으로 다시 쓴다.
+@Slf4j
+final class WriteJournal implements Closeable {
+  private final Path path;
+  private final ObjectMapper objectMapper;
+  private final boolean fsync;
+  private final int capacity;
+  private final ReentrantLock lock = new ReentrantLock();
+  // 아직 끝나지 않은 요청 (파일에서 '-'가 없는 '+' 줄과 같다.)
+  private final Map<String, WriteOperation> pending = new LinkedHashMap<>();
+  private FileChannel channel;
+  // 파일의 줄 수
+  private int lines;
+
+  WriteJournal(Path path, ObjectMapper objectMapper, boolean fsync, int capacity) {
+    this.path = path.toAbsolutePath();
+    this.objectMapper = objectMapper;
+    this.fsync = fsync;
+    this.capacity = capacity;
+  }
+
+  // 파일에 남아 있는 (끝나지 않은) 요청을 받은 순서대로 돌려준다.
+  List<WriteOperation> recover() throws IOException {
+    lock.lock();
+    try {
+      if (Files.exists(path)) {
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+          if (line.isBlank())
+            continue;
+          if (line.charAt(0) == '-') {
+            pending.remove(line.substring(1));
+            continue;
+          }
+          try {
+            WriteOperation operation = objectMapper.readValue(line.substring(1), WriteOperation.class);
+            pending.put(operation.trackingId(), operation);
+          } catch (JsonProcessingException e) {
+            // 기록하는 도중에 종료되어 잘린 마지막 줄 (202 응답 전이므로 버린다.)
+            log.warn("skipping corrupt journal entry: {}", e.getOriginalMessage());
+          }
+        }
+      } else {
+        Files.createDirectories(path.getParent());
+      }
+      rewrite();
+      return List.copyOf(pending.values());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // 파일에 기록한 뒤에 true를 돌려준다. 끝나지 않은 요청이 capacity 만큼 있으면 false
+  boolean append(WriteOperation operation) {
+    byte[] json = toJson(operation);
+    lock.lock();
+    try {
+      if (pending.size() >= capacity)
+        return false;
+      write('+', json);
+      pending.put(operation.trackingId(), operation);
+      return true;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void complete(String trackingId) {
+    lock.lock();
+    try {
+      if (pending.remove(trackingId) == null)
+        return;
+      if (pending.isEmpty()) {
+        // 가장 흔한 경우: 밀린 요청이 없으면 다시 쓸 필요 없이 비운다.
+        channel.truncate(0);
+        lines = 0;
+      } else if (lines > Math.max(1_000, pending.size() * 4)) {
+        rewrite();
+      } else {
+        write('-', trackingId.getBytes(StandardCharsets.UTF_8));
+      }
+    } catch (IOException e) {
+      // 기록하지 못해도 다음 실행에서 한 번 더 보낼 뿐이다.
+      log.warn("failed to record completion of {}: {}", trackingId, e.getMessage());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  boolean isPending(String trackingId) {
+    lock.lock();
+    try {
+      return pending.containsKey(trackingId);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // 끝나지 않은 요청 수
+  int size() {
+    lock.lock();
+    try {
+      return pending.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    lock.lock();
+    try {
+      if (channel != null)
+        channel.close();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void write(char marker, byte[] body) throws IOException {
+    ByteBuffer buffer = line(marker, body);
+    while (buffer.hasRemaining())
+      channel.write(buffer);
+    if (fsync)
+      channel.force(false);
+    lines++;
+  }
+
+  // 남은 요청만으로 임시 파일을 쓴 뒤 바꿔치기한다.
+  private void rewrite() throws IOException {
+    Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+    try (FileChannel out = FileChannel.open(temp,
+      StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      for (WriteOperation operation : pending.values()) {
+        ByteBuffer buffer = line('+', toJson(operation));
+        while (buffer.hasRemaining())
+          out.write(buffer);
+      }
+      out.force(true);
+    }
+    if (channel != null)
+      channel.close();
+    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    channel = FileChannel.open(path,
+      StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    lines = pending.size();
+  }
+
+  private static ByteBuffer line(char marker, byte[] body) {
+    return ByteBuffer.allocate(body.length + 2)
+      .put((byte) marker)
+      .put(body)
+      .put((byte) '\n')
+      .flip();
+  }
+
+  private byte[] toJson(WriteOperation operation) {
+    try {
+      return objectMapper.writeValueAsBytes(operation);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+}
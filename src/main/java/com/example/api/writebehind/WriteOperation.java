@@ -0,0 +1,25 @@
+package com.example.api.writebehind;
+
+import com.example.api.dto.ArticleDto;
+
+import java.time.Instant;
+
+// 비동기로 받은 쓰기 요청 하나 (WriteJournal에 JSON 한 줄로 기록된다.)
+// - CREATE: article
+// - UPDATE: articleId, article
+// - DELETE: articleId
+record WriteOperation(
+  String trackingId,
+  Type type,
+  Long articleId,
+  ArticleDto article,
+  Instant acceptedAt
+) {
+  enum Type {
+    CREATE, UPDATE, DELETE;
+
+    String operation() {
+      return name().toLowerCase();
+    }
+  }
+}
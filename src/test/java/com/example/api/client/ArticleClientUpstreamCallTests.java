@@ -0,0 +1,242 @@
+package com.example.api.client;
+
+import com.example.api.config.UpstreamMetrics;
+import com.example.api.dto.ArticleDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withNoContent;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+// ArticleClient의 작업 하나는 Upstream 요청 하나만 보내야 한다.
+class ArticleClientUpstreamCallTests {
+  private static final String BASE_URL = "http://localhost:8081";
+  private static final String ARTICLE
+    = "{\"id\":1,\"title\":\"title\",\"content\":\"content\",\"writer\":\"writer\"}";
+  private static final String PAGE
+    = "{\"content\":[" + ARTICLE + "],\"number\":0,\"size\":10,\"totalElements\":1,"
+    + "\"totalPages\":1,\"first\":true,\"last\":true}";
+  private static final List<String> OPERATIONS
+    = List.of("create", "readOne", "readAll", "readPage", "update", "delete");
+
+  private SimpleMeterRegistry registry;
+  private UpstreamMetrics upstreamMetrics;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    upstreamMetrics = new UpstreamMetrics(registry);
+  }
+
+  @Test
+  void templateClientSendsOneRequestPerOperation() {
+    RestTemplate restTemplate = new RestTemplateBuilder()
+      .rootUri(BASE_URL)
+      .additionalInterceptors(upstreamMetrics.interceptor("rest-template"))
+      .build();
+    MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+    expectCrud(server);
+
+    exerciseCrud(new ArticleTemplateClient(restTemplate));
+
+    server.verify();
+    assertOneCallPerOperation("rest-template");
+  }
+
+  @Test
+  void restClientSendsOneRequestPerOperation() {
+    RestClient.Builder builder = RestClient.builder()
+      .baseUrl(BASE_URL)
+      .requestInterceptor(upstreamMetrics.interceptor("rest-client"));
+    MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+    expectCrud(server);
+
+    exerciseCrud(new ArticleRestClient(builder.build()));
+
+    server.verify();
+    assertOneCallPerOperation("rest-client");
+  }
+
+  @Test
+  void httpInterfaceSendsOneRequestPerOperation() {
+    RestClient.Builder builder = RestClient.builder()
+      .baseUrl(BASE_URL)
+      .requestInterceptor(upstreamMetrics.interceptor("rest-client"));
+    MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+    expectCrud(server);
+
+    exerciseCrud(new ArticleService(builder.build()));
+
+    server.verify();
+    assertOneCallPerOperation("rest-client");
+  }
+
+  @Test
+  void webClientSendsOneRequestPerOperation() {
+    exerciseCrud(new ArticleWebClient(stubWebClient()));
+
+    assertOneCallPerOperation("web-client");
+  }
+
+  @Test
+  void reactiveWebClientSendsOneRequestPerOperation() {
+    ArticleReactiveWebClient client = new ArticleReactiveWebClient(stubWebClient());
+
+    client.create(article()).block();
+    client.readOne(1L).block();
+    client.readAll().collectList().block();
+    client.readPage(0, 10).block();
+    client.update(1L, article()).block();
+    client.delete(1L).block();
+
+    assertOneCallPerOperation("web-client");
+  }
+
+  // 응답 크기는 Content-Length가 없어도 읽은 Body byte로 기록한다.
+  @Test
+  void responseSizeIsCountedFromBody() {
+    RestClient.Builder builder = RestClient.builder()
+      .baseUrl(BASE_URL)
+      .requestInterceptor(upstreamMetrics.interceptor("rest-client"));
+    MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+    server.expect(ExpectedCount.once(), requestTo(BASE_URL + "/articles/1"))
+      .andExpect(method(HttpMethod.GET))
+      .andRespond(withSuccess(ARTICLE, MediaType.APPLICATION_JSON));
+
+    new ArticleRestClient(builder.build()).readOne(1L);
+    new ArticleReactiveWebClient(stubWebClient()).readOne(1L).block();
+
+    for (String client : List.of("rest-client", "web-client")) {
+      assertThat(registry.get(UpstreamMetrics.RESPONSE_SIZE)
+        .tag("client", client)
+        .tag("operation", "readOne")
+        .summary()
+        .totalAmount())
+        .as(client)
+        .isEqualTo(ARTICLE.getBytes(StandardCharsets.UTF_8).length);
+    }
+  }
+
+  // 다음 페이지를 미리 요청하더라도 페이지마다 요청은 한 번이고, 순서대로 돌려준다.
+  @Test
+  void pagedIterationRequestsEachPageOnce() {
+    RestClient.Builder builder = RestClient.builder()
+      .baseUrl(BASE_URL)
+      .requestInterceptor(upstreamMetrics.interceptor("rest-client"));
+    MockRestServiceServer server = MockRestServiceServer.bindTo(builder)
+      .ignoreExpectOrder(true)
+      .build();
+    int totalPages = 3;
+    for (int page = 0; page < totalPages; page++) {
+      server.expect(ExpectedCount.once(),
+          requestTo(BASE_URL + "/articles/paged?page=" + page + "&limit=1"))
+        .andExpect(method(HttpMethod.GET))
+        .andRespond(withSuccess(page(page, totalPages), MediaType.APPLICATION_JSON));
+    }
+
+    List<Long> ids = new ArrayList<>();
+    new ArticleRestClient(builder.build()).readAllPaged(1, 2)
+      .forEach(article -> ids.add(article.getId()));
+
+    server.verify();
+    assertThat(ids).containsExactly(1L, 2L, 3L);
+  }
+
+  // id가 page + 1인 게시글 하나가 담긴 페이지
+  private static String page(int page, int totalPages) {
+    return "{\"content\":[{\"id\":" + (page + 1) + ",\"title\":\"title\"}],"
+      + "\"number\":" + page + ",\"size\":1,\"totalElements\":" + totalPages + ","
+      + "\"totalPages\":" + totalPages + ",\"first\":" + (page == 0) + ","
+      + "\"last\":" + (page == totalPages - 1) + "}";
+  }
+
+  private static void expectCrud(MockRestServiceServer server) {
+    server.expect(ExpectedCount.once(), requestTo(BASE_URL + "/articles"))
+      .andExpect(method(HttpMethod.POST))
+      .andRespond(withSuccess(ARTICLE, MediaType.APPLICATION_JSON));
+    server.expect(ExpectedCount.once(), requestTo(BASE_URL + "/articles/1"))
+      .andExpect(method(HttpMethod.GET))
+      .andRespond(withSuccess(ARTICLE, MediaType.APPLICATION_JSON));
+    server.expect(ExpectedCount.once(), requestTo(BASE_URL + "/articles"))
+      .andExpect(method(HttpMethod.GET))
+      .andRespond(withSuccess("[" + ARTICLE + "]", MediaType.APPLICATION_JSON));
+    server.expect(ExpectedCount.once(), requestTo(BASE_URL + "/articles/paged?page=0&limit=10"))
+      .andExpect(method(HttpMethod.GET))
+      .andRespond(withSuccess(PAGE, MediaType.APPLICATION_JSON));
+    server.expect(ExpectedCount.once(), requestTo(BASE_URL + "/articles/1"))
+      .andExpect(method(HttpMethod.PUT))
+      .andRespond(withSuccess(ARTICLE, MediaType.APPLICATION_JSON));
+    server.expect(ExpectedCount.once(), requestTo(BASE_URL + "/articles/1"))
+      .andExpect(method(HttpMethod.DELETE))
+      .andRespond(withNoContent());
+  }
+
+  private static void exerciseCrud(ArticleClient client) {
+    assertThat(client.create(article()).getId()).isEqualTo(1L);
+    assertThat(client.readOne(1L).getTitle()).isEqualTo("title");
+    assertThat(client.readAll()).hasSize(1);
+    assertThat(client.readPage(0, 10).getContent()).hasSize(1);
+    assertThat(client.update(1L, article()).getWriter()).isEqualTo("writer");
+    client.delete(1L);
+  }
+
+  private void assertOneCallPerOperation(String client) {
+    for (String operation : OPERATIONS) {
+      assertThat(registry.get(UpstreamMetrics.CALLS)
+        .tag("client", client)
+        .tag("operation", operation)
+        .counter()
+        .count())
+        .as("%s %s", client, operation)
+        .isEqualTo(1.0);
+    }
+  }
+
+  // 실제 서버 대신 요청에 맞는 응답을 돌려주는 WebClient
+  private WebClient stubWebClient() {
+    return WebClient.builder()
+      .baseUrl(BASE_URL)
+      .filter(upstreamMetrics.filter("web-client"))
+      .exchangeFunction(request -> Mono.just(respond(request)))
+      .build();
+  }
+
+  private static ClientResponse respond(ClientRequest request) {
+    if (HttpMethod.DELETE.equals(request.method()))
+      return ClientResponse.create(HttpStatus.NO_CONTENT).build();
+    String path = request.url().getPath();
+    String body = !HttpMethod.GET.equals(request.method()) ? ARTICLE
+      : path.endsWith("/articles") ? "[" + ARTICLE + "]"
+      : path.endsWith("/articles/paged") ? PAGE
+      : ARTICLE;
+    return ClientResponse.create(HttpStatus.OK)
+      .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+      .body(body)
+      .build();
+  }
+
+  private static ArticleDto article() {
+    return new ArticleDto(null, "title", "content", "writer");
+  }
+}
@@ -0,0 +1,72 @@
+package com.example.api.client;
+
+import com.example.api.config.ArticleCacheProperties;
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 캐시를 켜도 Upstream 응답을 캐시 없이 받을 때와 같게 돌려줘야 한다.
+class CachingArticleClientTests {
+  private static final ArticleDto ARTICLE = new ArticleDto(1L, "title", "content", "writer");
+
+  @Test
+  void emptyBodyIsEmptyList() {
+    CachingArticleClient client = new CachingArticleClient(
+      new ListClient(null), new ArticleCacheProperties(), Runnable::run);
+
+    assertThat(client.readAll()).isEmpty();
+  }
+
+  @Test
+  void nullItemsAreDropped() {
+    CachingArticleClient client = new CachingArticleClient(
+      new ListClient(Arrays.asList(ARTICLE, null)), new ArticleCacheProperties(), Runnable::run);
+
+    assertThat(client.readAll()).containsExactly(ARTICLE);
+    assertThat(client.readOne(1L)).isSameAs(ARTICLE);
+  }
+
+  // readAll만 정해진 목록을 돌려준다.
+  private static class ListClient implements ArticleClient {
+    private final List<ArticleDto> articles;
+
+    ListClient(List<ArticleDto> articles) {
+      this.articles = articles;
+    }
+
+    @Override
+    public List<ArticleDto> readAll() {
+      return articles;
+    }
+
+    @Override
+    public ArticleDto create(ArticleDto dto) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ArticleDto readOne(Long id) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ArticlePageDto readPage(int page, int limit) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ArticleDto update(Long id, ArticleDto dto) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void delete(Long id) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -0,0 +1,199 @@
+package com.example.api.client;
+
+import com.example.api.config.ArticleHedgeProperties;
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 추가 요청(Hedge)은 늦은 요청을 대신할 뿐, 한쪽의 실패가 결과를 바꾸면 안 된다.
+class HedgingReactiveArticleClientTests {
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+  private static final ArticleDto ARTICLE = new ArticleDto(1L, "title", "content", "writer");
+
+  private SimpleMeterRegistry registry;
+  private ArticleHedgeProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    properties = new ArticleHedgeProperties();
+    properties.setInitialDelay(Duration.ofMillis(20));
+    // 모든 요청에 Hedge를 보낼 수 있다.
+    properties.setBudget(1.0);
+  }
+
+  @Test
+  void hedgeFailureDoesNotCancelSlowPrimary() {
+    StubClient delegate = new StubClient(
+      Mono.just(ARTICLE).delayElement(Duration.ofMillis(200)),
+      Mono.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE)));
+
+    ArticleDto article = hedging(delegate).readOne(1L).block(TIMEOUT);
+
+    assertThat(article).isSameAs(ARTICLE);
+    assertThat(delegate.calls.get()).isEqualTo(2);
+  }
+
+  @Test
+  void hedgeAnswersWhenSlowPrimaryFails() {
+    StubClient delegate = new StubClient(
+      Mono.<ArticleDto>error(new ResponseStatusException(HttpStatus.BAD_GATEWAY))
+        .delaySubscription(Duration.ofMillis(200)),
+      Mono.just(ARTICLE));
+
+    assertThat(hedging(delegate).readOne(1L).block(TIMEOUT)).isSameAs(ARTICLE);
+  }
+
+  @Test
+  void fastPrimaryFailureIsReturnedWithoutHedge() {
+    StubClient delegate = new StubClient(
+      Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND)));
+
+    assertThatThrownBy(() -> hedging(delegate).readOne(1L).block(TIMEOUT))
+      .isInstanceOfSatisfying(ResponseStatusException.class,
+        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+    assertThat(delegate.calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  void bothFailuresReturnPrimaryError() {
+    StubClient delegate = new StubClient(
+      Mono.<ArticleDto>error(new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT))
+        .delaySubscription(Duration.ofMillis(100)),
+      Mono.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE)));
+
+    assertThatThrownBy(() -> hedging(delegate).readOne(1L).block(TIMEOUT))
+      .isInstanceOfSatisfying(ResponseStatusException.class,
+        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT));
+  }
+
+  @Test
+  void readAllFallsBackWhenHedgeFailsBeforeFirstElement() {
+    ArticleDto second = new ArticleDto(2L, "title", "content", "writer");
+    StubClient delegate = new StubClient(
+      Flux.just(ARTICLE, second).delaySubscription(Duration.ofMillis(200)),
+      Flux.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE)));
+
+    assertThat(hedging(delegate).readAll().collectList().block(TIMEOUT))
+      .containsExactly(ARTICLE, second);
+  }
+
+  @Test
+  void latencyWindowsArePerOperation() {
+    properties.setWindow(64);
+    StubClient delegate = new StubClient();
+    HedgingReactiveArticleClient client = hedging(delegate);
+    // 빠른 readAll 응답만 모은다.
+    for (int i = 0; i < 64; i++) {
+      delegate.responses.add(Flux.just(ARTICLE));
+      client.readAll().blockLast(TIMEOUT);
+    }
+
+    assertThat(delay("readAll")).isEqualTo(properties.getMinDelay().toMillis());
+    assertThat(delay("readOne")).isEqualTo(properties.getInitialDelay().toMillis());
+  }
+
+  @Test
+  void latencyWindowReportsPercentile() {
+    HedgingReactiveArticleClient.LatencyWindow window = new HedgingReactiveArticleClient.LatencyWindow(100, 0.95);
+    assertThat(window.percentileMillis()).isEqualTo(-1);
+
+    for (long millis = 1; millis <= 128; millis++)
+      window.record(TimeUnit.MILLISECONDS.toNanos(millis));
+
+    // 최근 100개(29 ~ 128ms)의 95번째 값
+    assertThat(window.percentileMillis()).isEqualTo(123);
+  }
+
+  @Test
+  void budgetLimitsHedgesToRatio() {
+    HedgingReactiveArticleClient.HedgeBudget budget = new HedgingReactiveArticleClient.HedgeBudget(0.25);
+    int hedges = 0;
+    for (int i = 0; i < 100; i++) {
+      budget.deposit();
+      if (budget.tryWithdraw())
+        hedges++;
+    }
+    assertThat(hedges).isEqualTo(25);
+  }
+
+  @Test
+  void budgetDoesNotAccumulateBeyondCap() {
+    HedgingReactiveArticleClient.HedgeBudget budget = new HedgingReactiveArticleClient.HedgeBudget(1.0);
+    for (int i = 0; i < 100; i++)
+      budget.deposit();
+
+    int hedges = 0;
+    while (budget.tryWithdraw())
+      hedges++;
+    assertThat(hedges).isEqualTo(10);
+  }
+
+  private HedgingReactiveArticleClient hedging(ReactiveArticleClient delegate) {
+    return new HedgingReactiveArticleClient(delegate, properties, registry);
+  }
+
+  private double delay(String operation) {
+    return registry.get("article.hedge.delay").tag("operation", operation).gauge().value();
+  }
+
+  // 호출 순서대로 준비된 응답을 돌려준다.
+  private static class StubClient implements ReactiveArticleClient {
+    private final List<Object> responses = new ArrayList<>();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    StubClient(Object... responses) {
+      this.responses.addAll(List.of(responses));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T next() {
+      return (T) responses.get(calls.getAndIncrement());
+    }
+
+    @Override
+    public Mono<ArticleDto> create(ArticleDto dto) {
+      return next();
+    }
+
+    @Override
+    public Mono<ArticleDto> readOne(Long id) {
+      return next();
+    }
+
+    @Override
+    public Flux<ArticleDto> readAll() {
+      return next();
+    }
+
+    @Override
+    public Mono<ArticlePageDto> readPage(int page, int limit) {
+      return next();
+    }
+
+    @Override
+    public Mono<ArticleDto> update(Long id, ArticleDto dto) {
+      return next();
+    }
+
+    @Override
+    public Mono<Void> delete(Long id) {
+      return next();
+    }
+  }
+}
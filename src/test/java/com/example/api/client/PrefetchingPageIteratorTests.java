@@ -0,0 +1,92 @@
+package com.example.api.client;
+
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 끝까지 읽기 전에 멈추면 미리 요청한 페이지도 멈춰야 한다.
+class PrefetchingPageIteratorTests {
+  private static final int TOTAL_PAGES = 10;
+
+  @Test
+  void closeInterruptsPrefetchedPages() throws InterruptedException {
+    SlowClient client = new SlowClient();
+
+    try (PrefetchingPageIterator articles = client.readAllPaged(1, 2).iterator()) {
+      assertThat(articles.next().getId()).isEqualTo(0L);
+      // 페이지 1, 2를 요청하는 중이다.
+      assertThat(client.started.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    assertThat(client.interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(client.requested).containsExactlyInAnyOrder(0, 1, 2);
+  }
+
+  @Test
+  void closedIteratorHasNoMoreElements() {
+    SlowClient client = new SlowClient();
+    PrefetchingPageIterator articles = client.readAllPaged(1, 0).iterator();
+    assertThat(articles.next().getId()).isEqualTo(0L);
+
+    articles.close();
+
+    assertThat(articles.hasNext()).isFalse();
+    assertThat(client.requested).containsExactly(0);
+  }
+
+  // 첫 페이지만 바로 돌려주고, 나머지는 interrupt될 때까지 기다린다.
+  private static class SlowClient implements ArticleClient {
+    private final Set<Integer> requested = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch started = new CountDownLatch(2);
+    private final CountDownLatch interrupted = new CountDownLatch(2);
+
+    @Override
+    public ArticlePageDto readPage(int page, int limit) {
+      requested.add(page);
+      if (page > 0) {
+        started.countDown();
+        try {
+          Thread.sleep(Long.MAX_VALUE);
+        } catch (InterruptedException e) {
+          interrupted.countDown();
+          Thread.currentThread().interrupt();
+        }
+      }
+      ArticleDto article = new ArticleDto((long) page, "title", "content", "writer");
+      return new ArticlePageDto(List.of(article), page, limit, TOTAL_PAGES, TOTAL_PAGES, page == 0, false);
+    }
+
+    @Override
+    public ArticleDto create(ArticleDto dto) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ArticleDto readOne(Long id) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<ArticleDto> readAll() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ArticleDto update(Long id, ArticleDto dto) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void delete(Long id) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
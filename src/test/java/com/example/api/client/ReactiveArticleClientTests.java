@@ -0,0 +1,86 @@
+package com.example.api.client;
+
+import com.example.api.dto.ArticleBatchResultDto;
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 일괄 처리는 항목마다 결과를 하나씩, 요청 순서대로 돌려줘야 한다.
+class ReactiveArticleClientTests {
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+  private final ReactiveArticleClient client = new StubClient();
+
+  @Test
+  void readManyKeepsEmptyAndFailedItems() {
+    List<ArticleBatchResultDto> results = client.readMany(List.of(1L, 2L, 3L, 1L), 2)
+      .collectList()
+      .block(TIMEOUT);
+
+    assertThat(results).extracting(ArticleBatchResultDto::getId).containsExactly(1L, 2L, 3L);
+    assertThat(results).extracting(ArticleBatchResultDto::getStatus).containsExactly(200, 200, 404);
+    assertThat(results.get(0).getArticle()).isNotNull();
+    assertThat(results.get(1).getArticle()).isNull();
+  }
+
+  @Test
+  void createAllKeepsEmptyItems() {
+    List<ArticleBatchResultDto> results = client.createAll(List.of(
+        new ArticleDto(null, "title", "content", "writer"),
+        new ArticleDto(null, "empty", "content", "writer")), 2)
+      .collectList()
+      .block(TIMEOUT);
+
+    assertThat(results).extracting(ArticleBatchResultDto::getStatus).containsExactly(200, 200);
+    assertThat(results.get(0).getId()).isEqualTo(1L);
+    assertThat(results.get(1).getArticle()).isNull();
+  }
+
+  // id 2와 title "empty"는 빈 응답, id 3은 404
+  private static class StubClient implements ReactiveArticleClient {
+    @Override
+    public Mono<ArticleDto> create(ArticleDto dto) {
+      if (dto.getTitle().equals("empty"))
+        return Mono.empty();
+      return Mono.just(new ArticleDto(1L, dto.getTitle(), dto.getContent(), dto.getWriter()));
+    }
+
+    @Override
+    public Mono<ArticleDto> readOne(Long id) {
+      if (id == 2L)
+        return Mono.empty();
+      if (id == 3L)
+        return Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND));
+      return Mono.just(new ArticleDto(id, "title", "content", "writer"));
+    }
+
+    @Override
+    public Flux<ArticleDto> readAll() {
+      return Flux.empty();
+    }
+
+    @Override
+    public Mono<ArticlePageDto> readPage(int page, int limit) {
+      return Mono.empty();
+    }
+
+    @Override
+    public Mono<ArticleDto> update(Long id, ArticleDto dto) {
+      return Mono.empty();
+    }
+
+    @Override
+    public Mono<Void> delete(Long id) {
+      return Mono.empty();
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package com.example.api.load;
+
+import com.example.api.ApiApplication;
+import com.example.api.stub.StubArticleServer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// StubArticleServer를 Upstream으로 애플리케이션을 띄우고,
+// ArticleController(/articles)와 TestController(/test)에 부하를 준 뒤
+// 처리량과 p50 / p99 / p999 지연 시간을 기록한다.
+//
+// ./gradlew loadTest -Pload.threads=64 -Pload.duration=30s -Pstub.latency=lognormal
+// 애플리케이션 설정도 그대로 넘길 수 있다. (-Particle.client.type=web)
+// 결과: build/reports/load/
+public class LoadGenerator {
+  public static void main(String[] args) throws Exception {
+    int threads = Integer.getInteger("load.threads", 32);
+    Duration warmup = parseDuration(System.getProperty("load.warmup", "5s"));
+    Duration duration = parseDuration(System.getProperty("load.duration", "30s"));
+    List<String> targets = List.of(System.getProperty("load.targets", "articles,test").split(","));
+    List<String> operations = List.of(System.getProperty("load.operations", "readOne,readAll").split(","));
+    Path reportDir = Path.of(System.getProperty("load.report-dir", "build/reports/load"));
+
+    StubArticleServer.Options stubOptions = StubArticleServer.Options.fromSystemProperties();
+    // stub.instances > 1 이면 Stub을 여러 대 띄우고 article.upstream.endpoints로 나눠 보낸다.
+    int instances = Integer.getInteger("stub.instances", 1);
+    List<StubArticleServer> stubs = new ArrayList<>();
+    for (int i = 0; i < instances; i++)
+      stubs.add(StubArticleServer.start(stubOptions));
+    String endpoints = instances > 1
+      ? stubs.stream().map(StubArticleServer::baseUrl).collect(Collectors.joining(","))
+      : "";
+    try (
+      ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiApplication.class)
+        .properties(
+          "server.port=0",
+          "article.upstream.base-url=" + stubs.get(0).baseUrl(),
+          "article.upstream.endpoints=" + endpoints,
+          "logging.level.root=warn")
+        .run(args)
+    ) {
+      String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+      HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+      StringBuilder report = new StringBuilder()
+        .append("threads=").append(threads)
+        .append(", duration=").append(duration)
+        .append(", virtualThreads=").append(context.getEnvironment().getProperty("spring.threads.virtual.enabled", "false"))
+        .append(", client=").append(context.getEnvironment().getProperty("article.client.type"))
+        .append(", controller=").append(context.getEnvironment().getProperty("article.controller.mode"))
+        .append('\n')
+        .append("stub: ").append(stubOptions).append(", instances=").append(instances).append("\n\n")
+        .append(String.format("%-24s %10s %10s %10s %10s %10s %10s%n",
+          "scenario", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)"));
+
+      for (String target : targets) {
+        for (String operation : operations) {
+          Scenario scenario = new Scenario(target.trim(), operation.trim(), stubOptions.getArticleCount());
+          run(httpClient, baseUrl, scenario, threads, warmup);
+          Result result = run(httpClient, baseUrl, scenario, threads, duration);
+          report.append(result.format(scenario.name()));
+        }
+      }
+
+      System.out.println(report);
+      Files.createDirectories(reportDir);
+      Path reportFile = reportDir.resolve("load-" +
+        LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".txt");
+      Files.writeString(reportFile, report);
+      System.out.println("report: " + reportFile.toAbsolutePath());
+    } finally {
+      stubs.forEach(StubArticleServer::close);
+    }
+  }
+
+  // 스레드 마다 응답을 받자마자 다음 요청을 보낸다. (Closed Loop)
+  private static Result run(
+    HttpClient httpClient, String baseUrl, Scenario scenario, int threads, Duration duration
+  ) throws InterruptedException {
+    long deadline = System.nanoTime() + duration.toNanos();
+    AtomicLong errors = new AtomicLong();
+    List<long[]> samples = Collections.synchronizedList(new ArrayList<>());
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    for (int i = 0; i < threads; i++) {
+      executor.submit(() -> {
+        long[] latencies = new long[1024];
+        int count = 0;
+        while (System.nanoTime() < deadline) {
+          HttpRequest request = scenario.request(baseUrl);
+          long start = System.nanoTime();
+          try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 400)
+              errors.incrementAndGet();
+          } catch (IOException e) {
+            errors.incrementAndGet();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            break;
+          }
+          if (count == latencies.length)
+            latencies = Arrays.copyOf(latencies, count * 2);
+          latencies[count++] = System.nanoTime() - start;
+        }
+        samples.add(Arrays.copyOf(latencies, count));
+      });
+    }
+    executor.shutdown();
+    executor.awaitTermination(duration.toMillis() + 60_000, TimeUnit.MILLISECONDS);
+
+    long[] all = samples.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+    return new Result(all, errors.get(), duration);
+  }
+
+  private static Duration parseDuration(String value) {
+    if (value.endsWith("ms"))
+      return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+    if (value.endsWith("s"))
+      return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+    if (value.endsWith("m"))
+      return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+    return Duration.ofSeconds(Long.parseLong(value));
+  }
+
+  private record Scenario(String target, String operation, int articleCount) {
+    String name() {
+      return "/" + target + " " + operation;
+    }
+
+    HttpRequest request(String baseUrl) {
+      String path = switch (operation) {
+        case "readOne" -> "/" + target + "/" + (ThreadLocalRandom.current().nextInt(Math.max(1, articleCount)) + 1);
+        case "readAll" -> "/" + target;
+        default -> throw new IllegalArgumentException("unknown operation: " + operation);
+      };
+      return HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .timeout(Duration.ofSeconds(30))
+        .GET()
+        .build();
+    }
+  }
+
+  private record Result(long[] sortedLatencies, long errors, Duration duration) {
+    String format(String scenario) {
+      return String.format("%-24s %10d %10d %10.1f %10.2f %10.2f %10.2f%n",
+        scenario,
+        sortedLatencies.length,
+        errors,
+        sortedLatencies.length / (duration.toMillis() / 1000.0),
+        percentile(0.50),
+        percentile(0.99),
+        percentile(0.999));
+    }
+
+    private double percentile(double quantile) {
+      if (sortedLatencies.length == 0)
+        return 0;
+      int index = (int) Math.ceil(quantile * sortedLatencies.length) - 1;
+      return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+    }
+  }
+}
@@ -0,0 +1,212 @@
+package com.example.api.load;
+
+import com.example.api.stub.StubArticleServer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+
+// 애플리케이션을 별도의 JVM으로 여러 번 띄우고, 프로세스 시작부터
+// - ready: /actuator/health/readiness가 200을 돌려줄 때까지 (article.warmup.enabled=true면 Warmup 포함)
+// - first: 첫 GET /articles/1이 200을 돌려줄 때까지 (Client 생성, Connection 연결 포함)
+// 걸린 시간을 실행 방식(variant) 별로 기록한다.
+// - jit: java -jar app.jar
+// - cds: -XX:SharedArchiveFile (./gradlew cdsArchive로 만든 Archive)
+// - aot: -Dspring.aot.enabled=true (-Paot로 빌드했을 때만)
+// - cds+aot
+//
+// ./gradlew startupBenchmark -Pstartup.runs=10 [-Paot]
+// 애플리케이션 설정도 그대로 넘길 수 있다. (-Particle.client.type=web)
+// 결과: build/reports/startup/
+public class StartupBenchmark {
+  private static final String AOT_INITIALIZER = "com/example/api/ApiApplication__ApplicationContextInitializer.class";
+
+  public static void main(String[] args) throws Exception {
+    int runs = Integer.getInteger("startup.runs", 10);
+    Path jar = Path.of(System.getProperty("startup.jar", "build/cds/app.jar"));
+    Path archive = Path.of(System.getProperty("startup.archive", "build/cds/app.jsa"));
+    Duration timeout = Duration.ofSeconds(Long.getLong("startup.timeout-seconds", 60));
+    Path reportDir = Path.of(System.getProperty("startup.report-dir", "build/reports/startup"));
+    List<String> requested = List.of(System.getProperty("startup.variants", "jit,cds,aot,cds+aot").split(","));
+    if (!Files.exists(jar))
+      throw new IllegalStateException(jar + " not found (./gradlew cdsJar)");
+
+    boolean hasArchive = Files.exists(archive);
+    boolean hasAot;
+    try (JarFile jarFile = new JarFile(jar.toFile())) {
+      hasAot = jarFile.getEntry(AOT_INITIALIZER) != null;
+    }
+
+    // 애플리케이션 설정(article.*, spring.*, server.*)은 그대로 넘긴다.
+    List<String> applicationArgs = new ArrayList<>();
+    System.getProperties().forEach((key, value) -> {
+      String name = key.toString();
+      if (name.startsWith("article.") || name.startsWith("spring.") || name.startsWith("server."))
+        applicationArgs.add("--" + name + "=" + value);
+    });
+
+    HttpClient httpClient = HttpClient.newBuilder()
+      .connectTimeout(Duration.ofSeconds(1))
+      .build();
+    StringBuilder report = new StringBuilder()
+      .append("runs=").append(runs)
+      .append(", jar=").append(jar)
+      .append(", archive=").append(hasArchive ? archive : "none")
+      .append(", aot=").append(hasAot)
+      .append(", args=").append(applicationArgs)
+      .append("\n\n")
+      .append(String.format("%-10s %12s %12s %12s %12s%n",
+        "variant", "ready p50", "ready max", "first p50", "first max"));
+
+    try (StubArticleServer stub = StubArticleServer.start()) {
+      for (String variant : requested) {
+        List<String> jvmArgs = jvmArgs(variant.trim(), archive, hasArchive, hasAot);
+        if (jvmArgs == null) {
+          System.out.println("skipping " + variant + " (not built)");
+          continue;
+        }
+        long[] ready = new long[runs];
+        long[] first = new long[runs];
+        for (int run = 0; run < runs; run++) {
+          long[] measured = launch(httpClient, jar, jvmArgs, applicationArgs, stub.baseUrl(), timeout);
+          ready[run] = measured[0];
+          first[run] = measured[1];
+        }
+        Arrays.sort(ready);
+        Arrays.sort(first);
+        report.append(String.format("%-10s %10dms %10dms %10dms %10dms%n",
+          variant.trim(), ready[runs / 2], ready[runs - 1], first[runs / 2], first[runs - 1]));
+      }
+    }
+
+    System.out.println(report);
+    Files.createDirectories(reportDir);
+    Path reportFile = reportDir.resolve("startup-" +
+      LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".txt");
+    Files.writeString(reportFile, report);
+    System.out.println("report: " + reportFile.toAbsolutePath());
+  }
+
+  // 만들어지지 않은 variant면 null
+  private static List<String> jvmArgs(String variant, Path archive, boolean hasArchive, boolean hasAot) {
+    List<String> jvmArgs = new ArrayList<>();
+    for (String part : variant.split("\\+")) {
+      switch (part) {
+        case "jit" -> {
+        }
+        case "cds" -> {
+          if (!hasArchive)
+            return null;
+          jvmArgs.add("-XX:SharedArchiveFile=" + archive.toAbsolutePath());
+        }
+        case "aot" -> {
+          if (!hasAot)
+            return null;
+          jvmArgs.add("-Dspring.aot.enabled=true");
+        }
+        default -> throw new IllegalArgumentException("unknown variant: " + part);
+      }
+    }
+    return jvmArgs;
+  }
+
+  // [ready, first] (ms)
+  private static long[] launch(
+    HttpClient httpClient,
+    Path jar,
+    List<String> jvmArgs,
+    List<String> applicationArgs,
+    String upstream,
+    Duration timeout
+  ) throws IOException, InterruptedException {
+    int port = freePort();
+    List<String> command = new ArrayList<>();
+    command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+    command.addAll(jvmArgs);
+    command.addAll(List.of("-jar", jar.toAbsolutePath().toString(),
+      "--server.port=" + port,
+      "--article.upstream.base-url=" + upstream,
+      "--spring.main.banner-mode=off",
+      "--logging.level.root=warn"));
+    command.addAll(applicationArgs);
+
+    String baseUrl = "http://localhost:" + port;
+    long start = System.nanoTime();
+    Process process = new ProcessBuilder(command)
+      .directory(jar.toAbsolutePath().getParent().toFile())
+      .redirectErrorStream(true)
+      .start();
+    // 출력 버퍼가 차서 멈추지 않도록 읽어서 버린다. (실패하면 출력한다.)
+    StringBuilder output = new StringBuilder();
+    Thread.ofVirtual().start(() -> {
+      try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          synchronized (output) {
+            output.append(line).append('\n');
+          }
+        }
+      } catch (IOException ignored) {
+        // 프로세스가 종료되었다.
+      }
+    });
+
+    try {
+      long ready = waitFor(httpClient, baseUrl + "/actuator/health/readiness", start, timeout, process);
+      long first = waitFor(httpClient, baseUrl + "/articles/1", start, timeout, process);
+      return new long[]{ready, first};
+    } catch (IllegalStateException e) {
+      synchronized (output) {
+        System.err.println(output);
+      }
+      throw e;
+    } finally {
+      process.destroy();
+      if (!process.waitFor(10, TimeUnit.SECONDS))
+        process.destroyForcibly().waitFor();
+    }
+  }
+
+  private static long waitFor(
+    HttpClient httpClient, String url, long start, Duration timeout, Process process
+  ) throws InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+      .timeout(Duration.ofSeconds(5))
+      .GET()
+      .build();
+    while (System.nanoTime() - start < timeout.toNanos()) {
+      if (!process.isAlive())
+        throw new IllegalStateException("application exited with " + process.exitValue());
+      try {
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 200)
+          return (System.nanoTime() - start) / 1_000_000;
+      } catch (IOException e) {
+        // 아직 Port가 열리지 않았다.
+      }
+      Thread.sleep(5);
+    }
+    throw new IllegalStateException(url + " not ready within " + timeout);
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package com.example.api.search;
+
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticleSearchHitDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleSearchIndexTests {
+  private final ArticleSearchIndex index = new ArticleSearchIndex();
+
+  @Test
+  void tokenizeLowercasesAndSplitsOnNonLetters() {
+    assertThat(ArticleSearchIndex.tokenize("Spring Boot 3.2, 안녕하세요 세계!"))
+      .containsExactly("spring", "boot", "3", "2", "안녕하세요", "세계");
+  }
+
+  @Test
+  void everyTokenMustMatch() {
+    index.rebuild(List.of(
+      article(1L, "spring boot", "content", "kim"),
+      article(2L, "spring cloud", "content", "kim")));
+
+    assertThat(ids(index.search("spring boot", null, 10))).containsExactly(1L);
+    assertThat(ids(index.search("spring", null, 10))).containsExactlyInAnyOrder(1L, 2L);
+    assertThat(index.search("spring kafka", null, 10)).isEmpty();
+  }
+
+  @Test
+  void titleScoresHigherThanContent() {
+    index.rebuild(List.of(
+      article(1L, "other", "reactor", "kim"),
+      article(2L, "reactor", "other", "kim")));
+
+    assertThat(ids(index.search("reactor", null, 10))).containsExactly(2L, 1L);
+  }
+
+  @Test
+  void exactMatchScoresHigherThanPrefix() {
+    index.rebuild(List.of(
+      article(1L, "webflux", "content", "kim"),
+      article(2L, "web", "content", "kim")));
+
+    assertThat(ids(index.search("web", null, 10))).containsExactly(2L, 1L);
+  }
+
+  @Test
+  void writerMustMatchExactly() {
+    index.rebuild(List.of(
+      article(1L, "spring", "content", "kim"),
+      article(2L, "spring", "content", "kimchi")));
+
+    assertThat(ids(index.search("spring", "Kim", 10))).containsExactly(1L);
+  }
+
+  @Test
+  void updatedAndRemovedArticlesNoLongerMatch() {
+    index.rebuild(List.of(
+      article(1L, "spring", "content", "kim"),
+      article(2L, "spring", "content", "kim")));
+
+    index.index(article(1L, "kafka", "content", "kim"));
+    index.remove(2L);
+
+    assertThat(index.search("spring", null, 10)).isEmpty();
+    assertThat(ids(index.search("kafka", null, 10))).containsExactly(1L);
+    assertThat(index.size()).isEqualTo(1);
+  }
+
+  @Test
+  void prefixKeepsMostFrequentExpansions() {
+    List<ArticleDto> articles = new ArrayList<>();
+    // 사전 순으로 앞에 있는, 게시글이 하나뿐인 단어 64개
+    for (int i = 0; i < 64; i++)
+      articles.add(article((long) i, "ab%02d".formatted(i), "content", "kim"));
+    articles.add(article(100L, "abzz", "content", "kim"));
+    articles.add(article(101L, "abzz", "content", "kim"));
+    index.rebuild(articles);
+
+    assertThat(ids(index.search("ab", null, 100))).contains(100L, 101L);
+  }
+
+  @Test
+  void tombstonesDoNotChangeScores() {
+    index.rebuild(List.of(
+      article(1L, "spring", "content", "kim"),
+      article(2L, "kafka", "content", "kim")));
+    float before = index.search("spring", null, 1).get(0).getScore();
+
+    for (int i = 0; i < 100; i++)
+      index.index(article(2L, "kafka", "content", "kim"));
+
+    assertThat(index.search("spring", null, 1).get(0).getScore()).isEqualTo(before);
+  }
+
+  @Test
+  void changesDuringRebuildAreKept() {
+    List<ArticleDto> articles = List.of(
+      article(1L, "spring", "content", "kim"),
+      article(2L, "spring", "content", "kim"));
+    // 첫 게시글을 읽은 뒤에 게시글 2가 수정되고 게시글 3이 추가된다.
+    Iterable<ArticleDto> upstream = () -> new Iterator<>() {
+      private int next;
+
+      @Override
+      public boolean hasNext() {
+        return next < articles.size();
+      }
+
+      @Override
+      public ArticleDto next() {
+        if (next == 1) {
+          index.index(article(2L, "kafka", "content", "kim"));
+          index.index(article(3L, "spring", "content", "kim"));
+        }
+        return articles.get(next++);
+      }
+    };
+
+    index.rebuild(upstream);
+
+    assertThat(ids(index.search("spring", null, 10))).containsExactlyInAnyOrder(1L, 3L);
+    assertThat(ids(index.search("kafka", null, 10))).containsExactly(2L);
+  }
+
+  @Test
+  void searchStaysCorrectAcrossCompaction() throws InterruptedException {
+    index.rebuild(List.of(
+      article(1L, "spring", "content", "kim"),
+      article(2L, "kafka", "content", "kim")));
+
+    // 빈 자리가 COMPACT_THRESHOLD를 넘도록 같은 게시글을 계속 수정한다.
+    for (int i = 0; i < 20_000; i++) {
+      index.index(article(2L, "kafka " + i, "content", "kim"));
+      if (i % 1_000 == 0)
+        assertThat(ids(index.search("spring", null, 10))).containsExactly(1L);
+    }
+    Thread.sleep(100);
+
+    assertThat(ids(index.search("kafka 19999", null, 10))).containsExactly(2L);
+    assertThat(index.search("kafka 0", null, 10)).isEmpty();
+    assertThat(index.size()).isEqualTo(2);
+  }
+
+  private static List<Long> ids(List<ArticleSearchHitDto> hits) {
+    return hits.stream().map(hit -> hit.getArticle().getId()).toList();
+  }
+
+  private static ArticleDto article(Long id, String title, String content, String writer) {
+    return new ArticleDto(id, title, content, writer);
+  }
+}
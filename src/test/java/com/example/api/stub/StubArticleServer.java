@@ -0,0 +1,289 @@
+package com.example.api.stub;
+
+import com.example.api.dto.ArticleDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Article 서버(http://localhost:8081) 대신 사용하는 테스트용 서버
+// /articles, /articles/{id}, /articles/paged 를 흉내 내며,
+// 응답 지연 분포, 오류 비율, 게시글 크기를 설정할 수 있다.
+//
+// try (StubArticleServer server = StubArticleServer.start(StubArticleServer.Options.fromSystemProperties())) {
+//   ... article.upstream.base-url=server.baseUrl()
+// }
+public final class StubArticleServer implements AutoCloseable {
+  private static final Pattern ARTICLE_ID = Pattern.compile("/articles/(\\d+)/?");
+
+  private final Options options;
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final ConcurrentNavigableMap<Long, ArticleDto> articles = new ConcurrentSkipListMap<>();
+  private final AtomicLong sequence = new AtomicLong();
+  private final HttpServer server;
+  private final ExecutorService executor;
+
+  private StubArticleServer(Options options) throws IOException {
+    this.options = options;
+    String content = "c".repeat(Math.max(0, options.getPayloadSize()));
+    for (int i = 0; i < options.getArticleCount(); i++) {
+      long id = sequence.incrementAndGet();
+      articles.put(id, new ArticleDto(id, "title " + id, content, "writer " + (id % 10)));
+    }
+    this.executor = Executors.newCachedThreadPool();
+    this.server = HttpServer.create(new InetSocketAddress("localhost", options.getPort()), 1024);
+    this.server.setExecutor(executor);
+    this.server.createContext("/articles", this::handle);
+    this.server.start();
+  }
+
+  public static StubArticleServer start(Options options) throws IOException {
+    return new StubArticleServer(options);
+  }
+
+  public static StubArticleServer start() throws IOException {
+    return start(new Options());
+  }
+
+  public String baseUrl() {
+    return "http://localhost:" + server.getAddress().getPort();
+  }
+
+  // HTTP를 거치지 않고 게시글 하나를 추가하고 id를 돌려준다. (벤치마크 준비용)
+  public long seed() {
+    long id = sequence.incrementAndGet();
+    articles.put(id, new ArticleDto(id, "title " + id, "c".repeat(Math.max(0, options.getPayloadSize())),
+      "writer " + (id % 10)));
+    return id;
+  }
+
+  // HTTP를 거치지 않고 게시글을 지운다. (벤치마크 정리용)
+  public void remove(long id) {
+    articles.remove(id);
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      byte[] requestBody;
+      try (InputStream body = exchange.getRequestBody()) {
+        requestBody = body.readAllBytes();
+      }
+      delay();
+      if (ThreadLocalRandom.current().nextDouble() < options.getErrorRate()) {
+        send(exchange, 500, null);
+        return;
+      }
+
+      String method = exchange.getRequestMethod();
+      String path = exchange.getRequestURI().getPath();
+      Matcher matcher = ARTICLE_ID.matcher(path);
+      if (path.equals("/articles") || path.equals("/articles/")) {
+        switch (method) {
+          case "GET" -> send(exchange, 200, new ArrayList<>(articles.values()));
+          case "POST" -> {
+            ArticleDto dto = mapper.readValue(requestBody, ArticleDto.class);
+            long id = sequence.incrementAndGet();
+            ArticleDto created = new ArticleDto(id, dto.getTitle(), dto.getContent(), dto.getWriter());
+            articles.put(id, created);
+            send(exchange, 200, created);
+          }
+          default -> send(exchange, 405, null);
+        }
+      } else if (path.equals("/articles/paged") && method.equals("GET")) {
+        Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+        int page = Integer.parseInt(query.getOrDefault("page", "0"));
+        int limit = Integer.parseInt(query.getOrDefault("limit", "20"));
+        send(exchange, 200, page(page, limit));
+      } else if (matcher.matches()) {
+        Long id = Long.valueOf(matcher.group(1));
+        ArticleDto article = articles.get(id);
+        if (article == null) {
+          send(exchange, 404, null);
+          return;
+        }
+        switch (method) {
+          case "GET" -> send(exchange, 200, article);
+          case "PUT" -> {
+            ArticleDto dto = mapper.readValue(requestBody, ArticleDto.class);
+            ArticleDto updated = new ArticleDto(id, dto.getTitle(), dto.getContent(), dto.getWriter());
+            articles.put(id, updated);
+            send(exchange, 200, updated);
+          }
+          case "DELETE" -> {
+            articles.remove(id);
+            send(exchange, 204, null);
+          }
+          default -> send(exchange, 405, null);
+        }
+      } else {
+        send(exchange, 404, null);
+      }
+    }
+  }
+
+  // Spring Data의 Page 응답과 같은 모양
+  private Map<String, Object> page(int page, int limit) {
+    List<ArticleDto> all = new ArrayList<>(articles.values());
+    int from = Math.min(page * limit, all.size());
+    int to = Math.min(from + limit, all.size());
+    int totalPages = limit == 0 ? 0 : (all.size() + limit - 1) / limit;
+    Map<String, Object> response = new LinkedHashMap<>();
+    response.put("content", all.subList(from, to));
+    response.put("number", page);
+    response.put("size", limit);
+    response.put("totalElements", all.size());
+    response.put("totalPages", totalPages);
+    response.put("first", page == 0);
+    response.put("last", page >= totalPages - 1);
+    return response;
+  }
+
+  private void send(HttpExchange exchange, int status, Object body) throws IOException {
+    if (body == null) {
+      exchange.sendResponseHeaders(status, -1);
+      return;
+    }
+    byte[] bytes = mapper.writeValueAsBytes(body);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    exchange.getResponseBody().write(bytes);
+  }
+
+  private void delay() {
+    long millis = options.getLatency().sample(options);
+    if (millis <= 0)
+      return;
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static Map<String, String> query(String rawQuery) {
+    Map<String, String> query = new HashMap<>();
+    if (rawQuery == null)
+      return query;
+    for (String pair : rawQuery.split("&")) {
+      int index = pair.indexOf('=');
+      if (index > 0)
+        query.put(pair.substring(0, index), pair.substring(index + 1));
+    }
+    return query;
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  // 응답 지연 분포
+  public enum Latency {
+    // 지연 없음
+    NONE,
+    // 항상 median 만큼
+    FIXED,
+    // min ~ max 사이 균등 분포
+    UNIFORM,
+    // 중앙값 median, 퍼짐 sigma인 로그 정규 분포 (긴 꼬리 지연 재현)
+    LOGNORMAL;
+
+    long sample(Options options) {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      return switch (this) {
+        case NONE -> 0;
+        case FIXED -> options.getMedian().toMillis();
+        case UNIFORM -> random.nextLong(
+          options.getMin().toMillis(), options.getMax().toMillis() + 1);
+        case LOGNORMAL -> Math.round(
+          options.getMedian().toMillis() * Math.exp(options.getSigma() * random.nextGaussian()));
+      };
+    }
+  }
+
+  // stub.* 시스템 프로퍼티로도 설정할 수 있다.
+  // (./gradlew loadTest -Pstub.latency=lognormal -Pstub.error-rate=0.01)
+  public static class Options {
+    private int port = 0;
+    private int articleCount = 100;
+    private int payloadSize = 1_000;
+    private double errorRate = 0;
+    private Latency latency = Latency.NONE;
+    private Duration median = Duration.ofMillis(5);
+    private Duration min = Duration.ZERO;
+    private Duration max = Duration.ofMillis(10);
+    private double sigma = 0.5;
+
+    public static Options fromSystemProperties() {
+      Options options = new Options();
+      options.port = Integer.getInteger("stub.port", options.port);
+      options.articleCount = Integer.getInteger("stub.article-count", options.articleCount);
+      options.payloadSize = Integer.getInteger("stub.payload-size", options.payloadSize);
+      options.errorRate = Double.parseDouble(
+        System.getProperty("stub.error-rate", String.valueOf(options.errorRate)));
+      options.latency = Latency.valueOf(
+        System.getProperty("stub.latency", options.latency.name()).toUpperCase(Locale.ROOT));
+      options.median = Duration.ofMillis(Long.getLong("stub.latency.median-ms", options.median.toMillis()));
+      options.min = Duration.ofMillis(Long.getLong("stub.latency.min-ms", options.min.toMillis()));
+      options.max = Duration.ofMillis(Long.getLong("stub.latency.max-ms", options.max.toMillis()));
+      options.sigma = Double.parseDouble(
+        System.getProperty("stub.latency.sigma", String.valueOf(options.sigma)));
+      return options;
+    }
+
+    public Options port(int port) { this.port = port; return this; }
+    public Options articleCount(int articleCount) { this.articleCount = articleCount; return this; }
+    public Options payloadSize(int payloadSize) { this.payloadSize = payloadSize; return this; }
+    public Options errorRate(double errorRate) { this.errorRate = errorRate; return this; }
+    public Options fixedLatency(Duration latency) {
+      this.latency = Latency.FIXED;
+      this.median = latency;
+      return this;
+    }
+    public Options uniformLatency(Duration min, Duration max) {
+      this.latency = Latency.UNIFORM;
+      this.min = min;
+      this.max = max;
+      return this;
+    }
+    public Options lognormalLatency(Duration median, double sigma) {
+      this.latency = Latency.LOGNORMAL;
+      this.median = median;
+      this.sigma = sigma;
+      return this;
+    }
+
+    public int getPort() { return port; }
+    public int getArticleCount() { return articleCount; }
+    public int getPayloadSize() { return payloadSize; }
+    public double getErrorRate() { return errorRate; }
+    public Latency getLatency() { return latency; }
+    public Duration getMedian() { return median; }
+    public Duration getMin() { return min; }
+    public Duration getMax() { return max; }
+    public double getSigma() { return sigma; }
+
+    @Override
+    public String toString() {
+      return String.format(
+        "latency=%s(median=%dms, min=%dms, max=%dms, sigma=%.2f), errorRate=%.3f, payloadSize=%d, articleCount=%d",
+        latency, median.toMillis(), min.toMillis(), max.toMillis(), sigma,
+        errorRate, payloadSize, articleCount);
+    }
+  }
+}
@@ -0,0 +1,201 @@
+package com.example.api.writebehind;
+
+import com.example.api.client.ArticleClient;
+import com.example.api.config.ArticleBatchProperties;
+import com.example.api.config.ArticleWriteBehindProperties;
+import com.example.api.dto.ArticleBatchResultDto;
+import com.example.api.dto.ArticleDto;
+import com.example.api.dto.ArticlePageDto;
+import com.example.api.dto.ArticleWriteStatusDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 게시글에 대한 쓰기는 받은 순서대로 반영되어야 하고,
+// 어떤 실패든 요청을 PENDING으로 남겨두면 안 된다.
+class ArticleWriteQueueTests {
+  @TempDir
+  Path dir;
+
+  private ArticleWriteBehindProperties properties;
+  private ArticleBatchProperties batchProperties;
+  private RecordingClient client;
+  private ArticleWriteQueue queue;
+
+  @BeforeEach
+  void setUp() {
+    properties = new ArticleWriteBehindProperties();
+    properties.setEnabled(true);
+    properties.setJournal(dir.resolve("journal.log").toString());
+    properties.setFsync(false);
+    properties.setParallelism(2);
+    properties.setLinger(Duration.ofMillis(5));
+    properties.setRetryBackoff(Duration.ofMillis(1));
+    batchProperties = new ArticleBatchProperties();
+    client = new RecordingClient();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (queue != null)
+      queue.stop();
+  }
+
+  @Test
+  void writesForSameArticleKeepOrderAcrossRetries() throws Exception {
+    // 게시글 1의 첫 update는 한 번 503으로 실패한다.
+    client.failures.put("update:1:v0", 1);
+    start();
+
+    Map<Long, List<String>> expected = new HashMap<>();
+    List<String> trackingIds = new ArrayList<>();
+    for (int i = 0; i < 60; i++) {
+      long id = i % 3;
+      String title = "v" + i;
+      trackingIds.add(queue.update(id, new ArticleDto(id, title, "content", "writer")).getTrackingId());
+      expected.computeIfAbsent(id, key -> new ArrayList<>()).add("update:" + id + ":" + title);
+    }
+    awaitDone(trackingIds);
+
+    for (long id = 0; id < 3; id++)
+      assertThat(client.calls(id)).isEqualTo(expected.get(id));
+  }
+
+  @Test
+  void rejectedCreateAllFailsEveryOperation() throws Exception {
+    client.createAll = dtos -> {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "rejected");
+    };
+    start();
+
+    String trackingId = queue.create(new ArticleDto(null, "title", "content", "writer")).getTrackingId();
+    awaitDone(List.of(trackingId));
+
+    ArticleWriteStatusDto status = queue.status(trackingId).orElseThrow();
+    assertThat(status.getState()).isEqualTo(ArticleWriteStatusDto.State.FAILED);
+    assertThat(status.getStatus()).isEqualTo(400);
+  }
+
+  @Test
+  void failedCreateAllIsRetriedOneByOne() throws Exception {
+    client.createAll = dtos -> {
+      throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE);
+    };
+    start();
+
+    String trackingId = queue.create(new ArticleDto(null, "title", "content", "writer")).getTrackingId();
+    awaitDone(List.of(trackingId));
+
+    assertThat(queue.status(trackingId).orElseThrow().getState())
+      .isEqualTo(ArticleWriteStatusDto.State.DONE);
+  }
+
+  @Test
+  void batchesAreCappedAtBatchMaxSize() throws Exception {
+    batchProperties.setMaxSize(2);
+    properties.setParallelism(1);
+    properties.setLinger(Duration.ofMillis(50));
+    start();
+
+    List<String> trackingIds = new ArrayList<>();
+    for (int i = 0; i < 7; i++)
+      trackingIds.add(queue.create(new ArticleDto(null, "t" + i, "content", "writer")).getTrackingId());
+    awaitDone(trackingIds);
+
+    assertThat(client.createAllSizes).isNotEmpty().allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(2));
+  }
+
+  private void start() throws Exception {
+    queue = new ArticleWriteQueue(client, properties, batchProperties,
+      new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry());
+    queue.start();
+  }
+
+  private void awaitDone(List<String> trackingIds) throws InterruptedException {
+    long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+    while (System.nanoTime() < deadline) {
+      boolean done = trackingIds.stream()
+        .map(trackingId -> queue.status(trackingId).orElseThrow().getState())
+        .noneMatch(ArticleWriteStatusDto.State.PENDING::equals);
+      if (done)
+        return;
+      Thread.sleep(5);
+    }
+    throw new AssertionError("writes still pending");
+  }
+
+  // 호출을 기록하고, failures에 등록된 호출은 그 횟수만큼 503으로 실패한다.
+  private static class RecordingClient implements ArticleClient {
+    private final List<String> calls = new CopyOnWriteArrayList<>();
+    private final Map<String, Integer> failures = new ConcurrentHashMap<>();
+    private final List<Integer> createAllSizes = new CopyOnWriteArrayList<>();
+    private Function<List<ArticleDto>, List<ArticleBatchResultDto>> createAll;
+
+    List<String> calls(long id) {
+      return calls.stream().filter(call -> call.split(":")[1].equals(String.valueOf(id))).toList();
+    }
+
+    private void record(String call) {
+      // 같은 게시글의 요청은 한 lane에서만 호출된다.
+      Integer left = failures.get(call);
+      if (left != null && left > 0) {
+        failures.put(call, left - 1);
+        throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE);
+      }
+      calls.add(call);
+    }
+
+    @Override
+    public ArticleDto create(ArticleDto dto) {
+      return new ArticleDto(1L, dto.getTitle(), dto.getContent(), dto.getWriter());
+    }
+
+    @Override
+    public List<ArticleBatchResultDto> createAll(List<ArticleDto> dtos) {
+      createAllSizes.add(dtos.size());
+      if (createAll != null)
+        return createAll.apply(dtos);
+      return ArticleClient.super.createAll(dtos);
+    }
+
+    @Override
+    public ArticleDto readOne(Long id) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<ArticleDto> readAll() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ArticlePageDto readPage(int page, int limit) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ArticleDto update(Long id, ArticleDto dto) {
+      record("update:" + id + ":" + dto.getTitle());
+      return dto;
+    }
+
+    @Override
+    public void delete(Long id) {
+      record("delete:" + id);
+    }
+  }
+}
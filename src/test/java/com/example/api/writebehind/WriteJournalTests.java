@@ -0,0 +1,118 @@
+package com.example.api.writebehind;
+
+import com.example.api.dto.ArticleDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// journal은 재시작한 뒤에 끝나지 않은 요청만, 받은 순서대로 돌려줘야 한다.
+class WriteJournalTests {
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void recoverReturnsUncompletedOperationsInOrder() throws IOException {
+    WriteOperation first = operation(1L);
+    WriteOperation second = operation(2L);
+    WriteOperation third = operation(3L);
+    try (WriteJournal journal = journal(100)) {
+      journal.recover();
+      journal.append(first);
+      journal.append(second);
+      journal.append(third);
+      journal.complete(second.trackingId());
+    }
+
+    try (WriteJournal journal = journal(100)) {
+      assertThat(journal.recover()).extracting(WriteOperation::trackingId)
+        .containsExactly(first.trackingId(), third.trackingId());
+      assertThat(journal.size()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void completingLastPendingOperationTruncates() throws IOException {
+    try (WriteJournal journal = journal(100)) {
+      journal.recover();
+      WriteOperation operation = operation(1L);
+      journal.append(operation);
+      journal.complete(operation.trackingId());
+    }
+
+    assertThat(Files.size(path())).isZero();
+    try (WriteJournal journal = journal(100)) {
+      assertThat(journal.recover()).isEmpty();
+    }
+  }
+
+  @Test
+  void longJournalIsRewrittenWithPendingOperationsOnly() throws IOException {
+    WriteOperation kept = operation(1L);
+    try (WriteJournal journal = journal(100)) {
+      journal.recover();
+      journal.append(kept);
+      for (long id = 2; id < 3_000; id++) {
+        WriteOperation operation = operation(id);
+        journal.append(operation);
+        journal.complete(operation.trackingId());
+      }
+    }
+
+    // 1,000줄을 넘으면 남은 요청만으로 다시 쓴다.
+    assertThat(Files.readAllLines(path())).hasSizeLessThanOrEqualTo(1_001);
+    try (WriteJournal journal = journal(100)) {
+      assertThat(journal.recover()).extracting(WriteOperation::trackingId)
+        .containsExactly(kept.trackingId());
+    }
+  }
+
+  @Test
+  void truncatedLastLineIsSkipped() throws IOException {
+    WriteOperation operation = operation(1L);
+    Files.writeString(path(),
+      "+" + objectMapper.writeValueAsString(operation) + "\n+{\"trackingId\":\"cut",
+      StandardCharsets.UTF_8);
+
+    try (WriteJournal journal = journal(100)) {
+      assertThat(journal.recover()).extracting(WriteOperation::trackingId)
+        .containsExactly(operation.trackingId());
+    }
+  }
+
+  @Test
+  void appendIsRejectedAtCapacity() throws IOException {
+    try (WriteJournal journal = journal(1)) {
+      journal.recover();
+      WriteOperation first = operation(1L);
+      assertThat(journal.append(first)).isTrue();
+      assertThat(journal.append(operation(2L))).isFalse();
+
+      journal.complete(first.trackingId());
+      assertThat(journal.append(operation(3L))).isTrue();
+    }
+  }
+
+  private WriteJournal journal(int capacity) {
+    return new WriteJournal(path(), objectMapper, false, capacity);
+  }
+
+  private Path path() {
+    return dir.resolve("journal.log");
+  }
+
+  private static WriteOperation operation(Long articleId) {
+    return new WriteOperation(UUID.randomUUID().toString(), WriteOperation.Type.UPDATE, articleId,
+      new ArticleDto(articleId, "title", "content", "writer"), Instant.parse("2024-01-01T00:00:00Z"));
+  }
+}